@@ -0,0 +1,133 @@
+package com.cloudsim.qos.benchmark;
+
+import com.cloudsim.qos.config.InputConfigurationModule;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.scheduler.MinMinScheduler;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Scaling benchmark for the Min-Min engines.
+ *
+ * Runs the indexed and the rescan Min-Min engines on the same workload
+ * at 1k, 10k and 100k tasks and checks that both produce the same assignment.
+ * Each size runs twice: once with random task lengths and once with every
+ * task the same length, the worst case for Min-Min tie handling.
+ * The rescan engine is O(T²·V) and takes a long time at 100k tasks, so it is
+ * only run at that size when "--full" is passed.
+ *
+ * Build and run:
+ *   mvn -Pjmh package
+ *   java -cp target/qos-task-scheduler-1.0-SNAPSHOT-benchmarks.jar com.cloudsim.qos.benchmark.MinMinScalingBenchmark [--full] [numVMs]
+ */
+public class MinMinScalingBenchmark {
+
+    private static final int[] TASK_COUNTS = {1_000, 10_000, 100_000};
+    private static final int RESCAN_LIMIT = 10_000;
+
+    public static void main(String[] args) {
+        // Quiet mode: schedulers skip all per-task message formatting
+        System.setProperty("qos.scheduler.log.level", "WARN");
+
+        boolean full = false;
+        int numVMs = 10;
+        for (String arg : args) {
+            if ("--full".equals(arg)) {
+                full = true;
+            } else {
+                numVMs = Integer.parseInt(arg);
+            }
+        }
+
+        PrintStream console = System.out;
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+
+        console.println("Min-Min Scaling Benchmark (" + numVMs + " VMs)");
+        console.println(String.format("%-10s %-10s %-16s %-16s %-10s %-10s",
+                "Tasks", "Lengths", "Indexed(ms)", "Rescan(ms)", "Speedup", "Same"));
+        console.println("-".repeat(77));
+
+        for (int numTasks : TASK_COUNTS) {
+            for (boolean equalLengths : new boolean[]{false, true}) {
+                run(numTasks, numVMs, equalLengths, full, console, silent);
+            }
+        }
+
+        if (!full) {
+            console.println("\nRescan at 100k tasks skipped; pass --full to include it.");
+        }
+    }
+
+    /**
+     * Times both engines on one workload and prints a table row.
+     */
+    private static void run(int numTasks, int numVMs, boolean equalLengths, boolean full,
+                            PrintStream console, PrintStream silent) {
+        System.setOut(silent);
+        InputConfigurationModule configModule = new InputConfigurationModule();
+        configModule.generateSampleConfiguration(numTasks, numVMs);
+        List<CloudTask> tasks = configModule.getTasks();
+        List<VirtualMachine> vms = configModule.getVirtualMachines();
+        if (equalLengths) {
+            tasks = withEqualLengths(tasks);
+        }
+
+        // Warm-up on a small slice so the first measurement is not a cold JIT run
+        new MinMinScheduler(true).schedule(tasks.subList(0, Math.min(500, numTasks)), vms);
+
+        long start = System.nanoTime();
+        Map<Integer, SchedulingResult> indexed = new MinMinScheduler(true).schedule(tasks, vms);
+        long indexedMs = (System.nanoTime() - start) / 1_000_000;
+
+        boolean runRescan = full || numTasks <= RESCAN_LIMIT;
+        long rescanMs = -1;
+        Map<Integer, SchedulingResult> rescan = null;
+        if (runRescan) {
+            start = System.nanoTime();
+            rescan = new MinMinScheduler(false).schedule(tasks, vms);
+            rescanMs = (System.nanoTime() - start) / 1_000_000;
+        }
+        System.setOut(console);
+
+        console.println(String.format("%-10d %-10s %-16d %-16s %-10s %-10s",
+                numTasks, equalLengths ? "equal" : "random", indexedMs,
+                runRescan ? String.valueOf(rescanMs) : "skipped",
+                runRescan ? String.format("%.1fx", rescanMs / (double) Math.max(1, indexedMs)) : "-",
+                runRescan ? String.valueOf(sameAssignment(indexed, rescan)) : "-"));
+    }
+
+    /**
+     * Copies the tasks with every length set to the first task's length.
+     */
+    private static List<CloudTask> withEqualLengths(List<CloudTask> tasks) {
+        long length = tasks.get(0).getTaskLength();
+        List<CloudTask> copy = new ArrayList<>(tasks.size());
+        for (CloudTask task : tasks) {
+            copy.add(new CloudTask(task.getTaskId(), length, task.getDeadline(),
+                    task.getBudget(), task.getPriority()));
+        }
+        return copy;
+    }
+
+    /**
+     * Checks that two schedules map every task to the same VM at the same time.
+     */
+    private static boolean sameAssignment(Map<Integer, SchedulingResult> a, Map<Integer, SchedulingResult> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<Integer, SchedulingResult> entry : a.entrySet()) {
+            SchedulingResult other = b.get(entry.getKey());
+            if (other == null
+                    || other.getVm().getVmId() != entry.getValue().getVm().getVmId()
+                    || other.getFinishTime() != entry.getValue().getFinishTime()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
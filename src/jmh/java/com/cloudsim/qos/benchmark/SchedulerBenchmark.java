@@ -0,0 +1,129 @@
+package com.cloudsim.qos.benchmark;
+
+import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.scheduler.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the TaskScheduler implementations.
+ *
+ * Each invocation schedules the whole workload once. The "tasks" counter
+ * reports throughput in tasks scheduled per second; run with "-prof gc"
+ * (as {@link #main} does) to get the allocation rate per second and per
+ * operation. Schedulers run in quiet logging mode so no console I/O is
+ * measured.
+ *
+ * Alpha/beta only affect the QoS-aware scheduler; narrow the grid with
+ * e.g. "-p scheduler=FCFS -p alpha=0.5" when comparing baselines.
+ *
+ * Build and run:
+ *   mvn -Pjmh package
+ *   java -jar target/qos-task-scheduler-1.0-SNAPSHOT-benchmarks.jar SchedulerBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dqos.scheduler.log.level=WARN")
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int numTasks;
+
+    @Param({"10", "100"})
+    public int numVMs;
+
+    @Param({"0.5", "0.8"})
+    public double alpha;
+
+    @Param({"QoS-Aware", "Min-Min", "FCFS", "Random"})
+    public String scheduler;
+
+    private List<CloudTask> tasks;
+    private List<VirtualMachine> vms;
+    private TaskScheduler taskScheduler;
+
+    /**
+     * Counts scheduled tasks so JMH reports them as a per-second rate.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TaskCounter {
+        public long tasks;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        // Same value ranges as InputConfigurationModule.generateSampleConfiguration, but seeded
+        tasks = new ArrayList<>(numTasks);
+        for (int i = 1; i <= numTasks; i++) {
+            long length = 1000 + (long) (random.nextDouble() * 9000);
+            double deadline = 5 + random.nextDouble() * 15;
+            double budget = 0.5 + random.nextDouble() * 2.0;
+            int priority = 1 + random.nextInt(10);
+            tasks.add(new CloudTask(i, length, deadline, budget, priority));
+        }
+
+        double[][] vmConfigs = {
+            {1000, 0.05, 0.1},
+            {2000, 0.08, 0.08},
+            {3000, 0.12, 0.05},
+            {4000, 0.15, 0.03},
+            {1500, 0.06, 0.12},
+        };
+        vms = new ArrayList<>(numVMs);
+        for (int i = 0; i < numVMs; i++) {
+            double[] base = vmConfigs[i % vmConfigs.length];
+            double mips = base[0] + (random.nextDouble() * 500 - 250);
+            double cost = base[1] * (0.9 + random.nextDouble() * 0.2);
+            double latency = base[2] * (0.8 + random.nextDouble() * 0.4);
+            vms.add(new VirtualMachine(i + 1, mips, cost, latency, 1 + random.nextInt(4), 2048, 1000, 10000));
+        }
+
+        taskScheduler = createScheduler(scheduler, new SimulationConfig(alpha, 1.0 - alpha));
+    }
+
+    @Benchmark
+    public Map<Integer, SchedulingResult> schedule(TaskCounter counter) {
+        Map<Integer, SchedulingResult> result = taskScheduler.schedule(tasks, vms);
+        counter.tasks += numTasks;
+        return result;
+    }
+
+    private static TaskScheduler createScheduler(String name, SimulationConfig config) {
+        switch (name) {
+            case "QoS-Aware":
+                return new QoSAwareScheduler(config);
+            case "Min-Min":
+                return new MinMinScheduler();
+            case "FCFS":
+                return new FCFSScheduler();
+            case "Random":
+                return new RandomScheduler(42);
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SchedulerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.cloudsim.qos.benchmark;
+
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.profiling.TaskProfilingModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of scalar and vectorized QoS scoring.
+ *
+ * "scoreAll" fills the row-major profile store with the QoS scores of
+ * every task-VM pair, as TaskProfilingModule.calculateQoSScores does for
+ * each QoS-aware run. "selectVM" runs the load-weighted VM selection of
+ * the QoS-aware scheduler once per task. The "tasks" counter reports
+ * tasks scored or placed per second.
+ *
+ * The fork is started with the jdk.incubator.vector module, so
+ * vectorized=true measures the Vector API kernels on the host's preferred
+ * vector width.
+ *
+ * Build and run:
+ *   mvn -Pjmh package
+ *   java -jar target/qos-task-scheduler-1.0-SNAPSHOT-benchmarks.jar ScoringBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dqos.scheduler.log.level=WARN"})
+@State(Scope.Benchmark)
+public class ScoringBenchmark {
+
+    @Param({"1000"})
+    public int numTasks;
+
+    @Param({"100", "1000", "4000"})
+    public int numVMs;
+
+    @Param({"false", "true"})
+    public boolean vectorized;
+
+    private TaskProfilingModule profilingModule;
+    private double[] loadFactors;
+
+    /**
+     * Counts scored tasks so JMH reports them as a per-second rate.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TaskCounter {
+        public long tasks;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (vectorized && !TaskProfilingModule.isVectorScoringSupported()) {
+            throw new IllegalStateException("Vector API not available in the benchmark JVM");
+        }
+
+        Random random = new Random(42);
+
+        // Same value ranges as SchedulerBenchmark
+        TaskTable.Builder builder = new TaskTable.Builder(numTasks);
+        for (int i = 1; i <= numTasks; i++) {
+            long length = 1000 + (long) (random.nextDouble() * 9000);
+            double deadline = 5 + random.nextDouble() * 15;
+            double budget = 0.5 + random.nextDouble() * 2.0;
+            int priority = 1 + random.nextInt(10);
+            builder.add(i, length, deadline, budget, priority, 0);
+        }
+        TaskTable tasks = builder.build();
+
+        double[][] vmConfigs = {
+            {1000, 0.05, 0.1},
+            {2000, 0.08, 0.08},
+            {3000, 0.12, 0.05},
+            {4000, 0.15, 0.03},
+            {1500, 0.06, 0.12},
+        };
+        List<VirtualMachine> vms = new ArrayList<>(numVMs);
+        loadFactors = new double[numVMs];
+        for (int i = 0; i < numVMs; i++) {
+            double[] base = vmConfigs[i % vmConfigs.length];
+            double mips = base[0] + (random.nextDouble() * 500 - 250);
+            double cost = base[1] * (0.9 + random.nextDouble() * 0.2);
+            double latency = base[2] * (0.8 + random.nextDouble() * 0.4);
+            vms.add(new VirtualMachine(i + 1, mips, cost, latency, 1 + random.nextInt(4), 2048, 1000, 10000));
+            loadFactors[i] = 1.0 + random.nextDouble();
+        }
+
+        profilingModule = new TaskProfilingModule();
+        profilingModule.setVectorized(vectorized);
+        profilingModule.initialize(tasks, vms);
+        profilingModule.profileAllTasks();
+        profilingModule.calculateQoSScores(0.5, 0.5);
+    }
+
+    @Benchmark
+    public TaskProfilingModule scoreAll(TaskCounter counter) {
+        profilingModule.calculateQoSScores(0.5, 0.5);
+        counter.tasks += numTasks;
+        return profilingModule;
+    }
+
+    @Benchmark
+    public int selectVM(TaskCounter counter) {
+        int checksum = 0;
+        for (int t = 0; t < numTasks; t++) {
+            checksum += profilingModule.findBestVM(t, loadFactors, true, true);
+        }
+        counter.tasks += numTasks;
+        return checksum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScoringBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.cloudsim.qos.benchmark;
+
+import com.cloudsim.qos.config.InputConfigurationModule;
+import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.scheduler.QoSAwareScheduler;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Benchmark for the task ordering stage of the QoS-aware scheduler.
+ *
+ * Compares the former ordering (sort the task objects, then find each
+ * task's original index with a linear scan) with the index-permutation
+ * sort, and times a full lazy-profiling QoS schedule at each size.
+ * The ratio column shows the growth per step: about 2x per doubling is
+ * linearithmic, about 4x is the quadratic knee of the former lookup.
+ *
+ * Build and run:
+ *   mvn -Pjmh package
+ *   java -cp target/qos-task-scheduler-1.0-SNAPSHOT-benchmarks.jar com.cloudsim.qos.benchmark.TaskOrderingBenchmark [numVMs]
+ */
+public class TaskOrderingBenchmark {
+
+    private static final int[] TASK_COUNTS = {6_250, 12_500, 25_000, 50_000, 100_000, 200_000};
+    private static final int LOOKUP_LIMIT = 100_000;
+
+    public static void main(String[] args) {
+        // Quiet mode: schedulers skip all per-task message formatting
+        System.setProperty("qos.scheduler.log.level", "WARN");
+
+        int numVMs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        PrintStream console = System.out;
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+
+        console.println("QoS Task Ordering Benchmark (" + numVMs + " VMs)");
+        console.println(String.format("%-10s %-18s %-8s %-18s %-8s %-16s",
+                "Tasks", "Lookup sort(ms)", "Ratio", "Index sort(ms)", "Ratio", "QoS schedule(ms)"));
+        console.println("-".repeat(82));
+
+        long previousLookup = -1, previousIndex = -1;
+        for (int numTasks : TASK_COUNTS) {
+            System.setOut(silent);
+            InputConfigurationModule configModule = new InputConfigurationModule();
+            configModule.generateSampleConfiguration(numTasks, numVMs);
+            List<CloudTask> tasks = configModule.getTasks();
+            List<VirtualMachine> vms = configModule.getVirtualMachines();
+
+            long lookupMs = -1;
+            int[] lookupOrder = null;
+            if (numTasks <= LOOKUP_LIMIT) {
+                long start = System.nanoTime();
+                lookupOrder = lookupOrder(tasks);
+                lookupMs = (System.nanoTime() - start) / 1_000_000;
+            }
+
+            long start = System.nanoTime();
+            int[] indexOrder = QoSAwareScheduler.priorityOrder(tasks);
+            long indexMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+            SimulationConfig config = new SimulationConfig(0.5, 0.5);
+            config.setLazyProfiling(true);
+            start = System.nanoTime();
+            new QoSAwareScheduler(config).schedule(tasks, vms);
+            long scheduleMs = (System.nanoTime() - start) / 1_000_000;
+            System.setOut(console);
+
+            if (lookupOrder != null && !Arrays.equals(lookupOrder, indexOrder)) {
+                console.println("WARNING: orderings differ at " + numTasks + " tasks");
+            }
+
+            console.println(String.format("%-10d %-18s %-8s %-18d %-8s %-16d",
+                    numTasks,
+                    lookupMs >= 0 ? String.valueOf(lookupMs) : "skipped",
+                    ratio(lookupMs, previousLookup),
+                    indexMs,
+                    ratio(indexMs, previousIndex),
+                    scheduleMs));
+
+            previousLookup = lookupMs;
+            previousIndex = indexMs;
+        }
+    }
+
+    /**
+     * Former ordering: sorts the task objects and recovers each original
+     * index with a linear scan (O(T²) overall).
+     */
+    private static int[] lookupOrder(List<CloudTask> tasks) {
+        List<CloudTask> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort((t1, t2) -> {
+            int priorityCompare = Integer.compare(t2.getPriority(), t1.getPriority());
+            if (priorityCompare != 0) return priorityCompare;
+            return Double.compare(t1.getDeadline(), t2.getDeadline());
+        });
+
+        int[] order = new int[sortedTasks.size()];
+        for (int k = 0; k < order.length; k++) {
+            int targetId = sortedTasks.get(k).getTaskId();
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getTaskId() == targetId) {
+                    order[k] = i;
+                    break;
+                }
+            }
+        }
+        return order;
+    }
+
+    private static String ratio(long current, long previous) {
+        return current > 0 && previous > 0 ? String.format("%.1fx", current / (double) previous) : "-";
+    }
+}
@@ -3,8 +3,12 @@ package com.cloudsim.qos;
 import com.cloudsim.qos.config.InputConfigurationModule;
 import com.cloudsim.qos.config.SimulationConfig;
 import com.cloudsim.qos.evaluation.PerformanceEvaluationModule;
+import com.cloudsim.qos.evaluation.ReplicationRunner;
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.ParetoSolution;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
 import com.cloudsim.qos.scheduler.*;
 import com.cloudsim.qos.visualization.ReportGenerationModule;
@@ -50,6 +54,9 @@ public class Main {
                 case SCALABILITY_TEST:
                     runScalabilityTest();
                     return; // GUI runs on its own thread
+                case REPLICATIONS:
+                    runReplicationStudy(args);
+                    break;
                 default:
                     runDemoSimulation();
             }
@@ -82,6 +89,9 @@ public class Main {
             case "-s":
             case "--scalability":
                 return SimulationMode.SCALABILITY_TEST;
+            case "-r":
+            case "--replications":
+                return SimulationMode.REPLICATIONS;
             case "-h":
             case "--help":
                 printHelp();
@@ -103,6 +113,8 @@ public class Main {
         System.out.println("  -i, --interactive   Run interactive mode for manual input");
         System.out.println("  -f, --file <dir>    Load configuration from files");
         System.out.println("  -s, --scalability   Run scalability tests");
+        System.out.println("  -r, --replications [runs] [tasks] [vms]");
+        System.out.println("                      Compare schedulers over seeded replications");
         System.out.println("  -g, --gui           Launch graphical user interface");
         System.out.println("  -h, --help          Show this help message");
     }
@@ -161,14 +173,15 @@ public class Main {
         
         InputConfigurationModule configModule = new InputConfigurationModule();
         configModule.loadFromFiles(
-                configDir + "/tasks.json",
-                configDir + "/vms.json",
+                InputConfigurationModule.workloadFile(configDir, "tasks").getPath(),
+                InputConfigurationModule.workloadFile(configDir, "vms").getPath(),
                 configDir + "/config.json"
         );
         
         configModule.printConfigurationSummary();
         
-        runSimulation(configModule.getTasks(), configModule.getVirtualMachines(),
+        // A binary task file is already columnar and goes to the schedulers as loaded
+        runSimulation(configModule.getTaskTable(), configModule.getVirtualMachines(),
                 configModule.getSimulationConfig());
     }
     
@@ -195,23 +208,24 @@ public class Main {
                 
                 List<CloudTask> tasks = configModule.getTasks();
                 List<VirtualMachine> vms = configModule.getVirtualMachines();
+                TaskTable workload = TaskTable.fromTasks(tasks);
                 
                 // Time QoS scheduler
                 long start = System.currentTimeMillis();
                 QoSAwareScheduler qosScheduler = new QoSAwareScheduler(config);
-                qosScheduler.schedule(copyTasks(tasks), copyVMs(vms));
+                qosScheduler.schedule(workload, vms);
                 long qosTime = System.currentTimeMillis() - start;
                 
                 // Time FCFS scheduler
                 start = System.currentTimeMillis();
                 FCFSScheduler fcfsScheduler = new FCFSScheduler();
-                fcfsScheduler.schedule(copyTasks(tasks), copyVMs(vms));
+                fcfsScheduler.schedule(workload, vms);
                 long fcfsTime = System.currentTimeMillis() - start;
                 
                 // Time Random scheduler
                 start = System.currentTimeMillis();
                 RandomScheduler randomScheduler = new RandomScheduler(42);
-                randomScheduler.schedule(copyTasks(tasks), copyVMs(vms));
+                randomScheduler.schedule(workload, vms);
                 long randomTime = System.currentTimeMillis() - start;
                 
                 System.out.println(String.format("%-10d %-8d %-15d %-15d %-15d",
@@ -220,11 +234,58 @@ public class Main {
         }
     }
     
+    /**
+     * Runs every scheduler over independently seeded workloads and reports
+     * each metric as mean ± 95% confidence interval.
+     */
+    private static void runReplicationStudy(String[] args) {
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int numTasks = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int numVMs = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        
+        // Per-task scheduler output would interleave across parallel replications
+        if (System.getProperty("qos.scheduler.log.level") == null) {
+            System.setProperty("qos.scheduler.log.level", "WARN");
+        }
+        
+        System.out.println("Running Replication Study...\n");
+        
+        SimulationConfig config = new SimulationConfig(0.5, 0.5);
+        config.setNumberOfRuns(runs);
+        
+        ReplicationRunner runner = new ReplicationRunner(config, numTasks, numVMs);
+        long start = System.currentTimeMillis();
+        runner.run();
+        long elapsed = System.currentTimeMillis() - start;
+        
+        runner.printSummary();
+        System.out.println("\nCompleted " + runs + " replications in " + elapsed + " ms");
+    }
+    
     /**
      * Main simulation runner that orchestrates all modules.
      */
     private static void runSimulation(List<CloudTask> tasks, List<VirtualMachine> vms,
                                       SimulationConfig config) throws IOException {
+        runSimulation(TaskTable.fromTasks(tasks), tasks, vms, config);
+    }
+    
+    /**
+     * Runs the simulation on a loaded table. Schedulers read the table
+     * directly; task objects are only created for the result objects used
+     * by the charts and reports.
+     */
+    private static void runSimulation(TaskTable workload, List<VirtualMachine> vms,
+                                      SimulationConfig config) throws IOException {
+        runSimulation(workload, workload.toTaskList(), vms, config);
+    }
+    
+    /**
+     * Runs every scheduler on the shared workload. The task objects must be
+     * in table order; they are referenced by the result objects.
+     */
+    private static void runSimulation(TaskTable workload, List<CloudTask> tasks, List<VirtualMachine> vms,
+                                      SimulationConfig config) throws IOException {
         
         String outputDir = config.getOutputDirectory();
         
@@ -240,9 +301,9 @@ public class Main {
         System.out.println("▓".repeat(60));
         
         QoSAwareScheduler qosScheduler = new QoSAwareScheduler(config);
-        qosScheduler.schedule(copyTasks(tasks), copyVMs(vms));
-        allResults.put(qosScheduler.getName(), qosScheduler.getResults());
-        evaluator.evaluate(qosScheduler, qosScheduler.getResults());
+        Assignment qosAssignment = qosScheduler.schedule(workload, vms);
+        allResults.put(qosScheduler.getName(), qosAssignment.toResults(tasks));
+        evaluator.evaluate(qosScheduler, qosAssignment);
         
         // ===== Run FCFS Scheduler =====
         System.out.println("\n" + "▓".repeat(60));
@@ -250,9 +311,9 @@ public class Main {
         System.out.println("▓".repeat(60));
         
         FCFSScheduler fcfsScheduler = new FCFSScheduler();
-        fcfsScheduler.schedule(copyTasks(tasks), copyVMs(vms));
-        allResults.put(fcfsScheduler.getName(), fcfsScheduler.getResults());
-        evaluator.evaluate(fcfsScheduler, fcfsScheduler.getResults());
+        Assignment fcfsAssignment = fcfsScheduler.schedule(workload, vms);
+        allResults.put(fcfsScheduler.getName(), fcfsAssignment.toResults(tasks));
+        evaluator.evaluate(fcfsScheduler, fcfsAssignment);
         
         // ===== Run Random Scheduler =====
         System.out.println("\n" + "▓".repeat(60));
@@ -260,9 +321,9 @@ public class Main {
         System.out.println("▓".repeat(60));
         
         RandomScheduler randomScheduler = new RandomScheduler(42);  // Fixed seed for reproducibility
-        randomScheduler.schedule(copyTasks(tasks), copyVMs(vms));
-        allResults.put(randomScheduler.getName(), randomScheduler.getResults());
-        evaluator.evaluate(randomScheduler, randomScheduler.getResults());
+        Assignment randomAssignment = randomScheduler.schedule(workload, vms);
+        allResults.put(randomScheduler.getName(), randomAssignment.toResults(tasks));
+        evaluator.evaluate(randomScheduler, randomAssignment);
         
         // ===== Run Min-Min Scheduler =====
         System.out.println("\n" + "▓".repeat(60));
@@ -270,9 +331,57 @@ public class Main {
         System.out.println("▓".repeat(60));
         
         MinMinScheduler minMinScheduler = new MinMinScheduler();
-        minMinScheduler.schedule(copyTasks(tasks), copyVMs(vms));
-        allResults.put(minMinScheduler.getName(), minMinScheduler.getResults());
-        evaluator.evaluate(minMinScheduler, minMinScheduler.getResults());
+        Assignment minMinAssignment = minMinScheduler.schedule(workload, vms);
+        allResults.put(minMinScheduler.getName(), minMinAssignment.toResults(tasks));
+        evaluator.evaluate(minMinScheduler, minMinAssignment);
+        
+        // ===== Run Max-Min Scheduler =====
+        System.out.println("\n" + "▓".repeat(60));
+        System.out.println("Running Max-Min Scheduler...");
+        System.out.println("▓".repeat(60));
+        
+        MaxMinScheduler maxMinScheduler = new MaxMinScheduler();
+        Assignment maxMinAssignment = maxMinScheduler.schedule(workload, vms);
+        allResults.put(maxMinScheduler.getName(), maxMinAssignment.toResults(tasks));
+        evaluator.evaluate(maxMinScheduler, maxMinAssignment);
+        
+        // ===== Run Sufferage Scheduler =====
+        System.out.println("\n" + "▓".repeat(60));
+        System.out.println("Running Sufferage Scheduler...");
+        System.out.println("▓".repeat(60));
+        
+        SufferageScheduler sufferageScheduler = new SufferageScheduler();
+        Assignment sufferageAssignment = sufferageScheduler.schedule(workload, vms);
+        allResults.put(sufferageScheduler.getName(), sufferageAssignment.toResults(tasks));
+        evaluator.evaluate(sufferageScheduler, sufferageAssignment);
+        
+        // ===== Run Genetic Algorithm Scheduler =====
+        System.out.println("\n" + "▓".repeat(60));
+        System.out.println("Running Genetic Algorithm Scheduler...");
+        System.out.println("▓".repeat(60));
+        
+        GeneticScheduler geneticScheduler = new GeneticScheduler(config, 42);  // Fixed seed for reproducibility
+        Assignment geneticAssignment = geneticScheduler.schedule(workload, vms);
+        allResults.put(geneticScheduler.getName(), geneticAssignment.toResults(tasks));
+        evaluator.evaluate(geneticScheduler, geneticAssignment);
+        
+        // ===== Run NSGA-II Pareto Scheduler =====
+        System.out.println("\n" + "▓".repeat(60));
+        System.out.println("Running NSGA-II Pareto Scheduler...");
+        System.out.println("▓".repeat(60));
+        
+        NsgaIIScheduler nsgaScheduler = new NsgaIIScheduler(config, 42);  // Fixed seed for reproducibility
+        Assignment nsgaAssignment = nsgaScheduler.schedule(workload, vms);
+        allResults.put(nsgaScheduler.getName(), nsgaAssignment.toResults(tasks));
+        evaluator.evaluate(nsgaScheduler, nsgaAssignment);
+        
+        List<ParetoSolution> front = nsgaScheduler.getParetoFront();
+        if (!front.isEmpty()) {
+            System.out.printf("Pareto front: %d schedules, from %s%n            to %s%n",
+                    front.size(), front.get(0), front.get(front.size() - 1));
+            System.out.printf("Selected for alpha=%.2f, beta=%.2f: %s%n",
+                    config.getAlpha(), config.getBeta(), front.get(nsgaScheduler.getSelectedIndex()));
+        }
         
         // ===== Performance Analysis =====
         System.out.println("\n" + "▓".repeat(60));
@@ -327,30 +436,6 @@ public class Main {
         System.out.println("\nThank you for using QoS-Aware Task Scheduling Simulator!");
     }
     
-    /**
-     * Creates a copy of tasks list for independent scheduling.
-     */
-    private static List<CloudTask> copyTasks(List<CloudTask> tasks) {
-        List<CloudTask> copy = new ArrayList<>();
-        for (CloudTask task : tasks) {
-            copy.add(task.copy());
-        }
-        return copy;
-    }
-    
-    /**
-     * Creates a copy of VMs list for independent scheduling.
-     */
-    private static List<VirtualMachine> copyVMs(List<VirtualMachine> vms) {
-        List<VirtualMachine> copy = new ArrayList<>();
-        for (VirtualMachine vm : vms) {
-            copy.add(vm.copy());
-        }
-        return copy;
-    }
-    
-    
-    
     /**
      * Simulation mode enumeration.
      */
@@ -359,5 +444,6 @@ public class Main {
         INTERACTIVE,
         FILE,
         SCALABILITY_TEST,
+        REPLICATIONS
     }
 }
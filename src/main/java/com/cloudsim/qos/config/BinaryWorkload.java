@@ -0,0 +1,233 @@
+package com.cloudsim.qos.config;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact fixed-record binary format for tasks and VMs.
+ * 
+ * A file is a 32-byte header followed by fixed-size little-endian records,
+ * so record i starts at HEADER_SIZE + i * recordSize and any field can be
+ * read in place from a memory-mapped file (see {@link MappedTaskFile}).
+ * 
+ * Header:
+ *   int    magic ("QWKL")
+ *   short  version
+ *   short  kind (KIND_TASKS or KIND_VMS)
+ *   long   record count
+ *   int    record size in bytes
+ *   12 bytes reserved
+ * 
+ * Task record (40 bytes):
+ *   int taskId, int priority, long taskLength, double deadline, double budget, double arrivalTime
+ * 
+ * VM record (56 bytes):
+ *   int vmId, int numberOfPes, double mips, double costPerSecond, double networkLatency,
+ *   long ram, long bandwidth, long storage
+ */
+public final class BinaryWorkload {
+    
+    public static final int MAGIC = 0x51574B4C;   // "QWKL"
+    public static final short VERSION = 1;
+    public static final short KIND_TASKS = 1;
+    public static final short KIND_VMS = 2;
+    
+    public static final int HEADER_SIZE = 32;
+    public static final int TASK_RECORD_SIZE = 40;
+    public static final int VM_RECORD_SIZE = 56;
+    
+    // Field offsets within a task record
+    static final int TASK_ID = 0;
+    static final int TASK_PRIORITY = 4;
+    static final int TASK_LENGTH = 8;
+    static final int TASK_DEADLINE = 16;
+    static final int TASK_BUDGET = 24;
+    static final int TASK_ARRIVAL = 32;
+    
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    
+    private BinaryWorkload() {
+    }
+    
+    /**
+     * Writes tasks to a binary file, streaming them through a fixed buffer.
+     * @return Number of tasks written
+     */
+    public static long writeTasks(Path path, Iterable<CloudTask> tasks) throws IOException {
+        try (TaskWriter writer = new TaskWriter(path)) {
+            for (CloudTask task : tasks) {
+                writer.accept(task.getTaskId(), task.getTaskLength(), task.getDeadline(),
+                        task.getBudget(), task.getPriority(), task.getArrivalTime());
+            }
+            return writer.getCount();
+        }
+    }
+    
+    /**
+     * Streaming task writer. Records are appended through a fixed buffer and
+     * the header is written on close, so the task count need not be known up
+     * front; it plugs directly into {@link StreamingTaskLoader#forEachRecord}.
+     */
+    public static class TaskWriter implements StreamingTaskLoader.TaskRecordConsumer, AutoCloseable {
+        
+        private final FileChannel channel;
+        private final ByteBuffer buffer = newBuffer();
+        private long count;
+        
+        public TaskWriter(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            channel.position(HEADER_SIZE);
+        }
+        
+        @Override
+        public void accept(int taskId, long taskLength, double deadline, double budget,
+                           int priority, double arrivalTime) {
+            try {
+                if (buffer.remaining() < TASK_RECORD_SIZE) {
+                    flush(channel, buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.putInt(taskId);
+            buffer.putInt(priority);
+            buffer.putLong(taskLength);
+            buffer.putDouble(deadline);
+            buffer.putDouble(budget);
+            buffer.putDouble(arrivalTime);
+            count++;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                flush(channel, buffer);
+                writeHeader(channel, KIND_TASKS, count, TASK_RECORD_SIZE);
+            }
+        }
+    }
+    
+    /**
+     * Writes VMs to a binary file.
+     * @return Number of VMs written
+     */
+    public static long writeVirtualMachines(Path path, Iterable<VirtualMachine> vms) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            ByteBuffer buffer = newBuffer();
+            long count = 0;
+            
+            for (VirtualMachine vm : vms) {
+                if (buffer.remaining() < VM_RECORD_SIZE) {
+                    flush(channel, buffer);
+                }
+                buffer.putInt(vm.getVmId());
+                buffer.putInt(vm.getNumberOfPes());
+                buffer.putDouble(vm.getMips());
+                buffer.putDouble(vm.getCostPerSecond());
+                buffer.putDouble(vm.getNetworkLatency());
+                buffer.putLong(vm.getRam());
+                buffer.putLong(vm.getBandwidth());
+                buffer.putLong(vm.getStorage());
+                count++;
+            }
+            flush(channel, buffer);
+            writeHeader(channel, KIND_VMS, count, VM_RECORD_SIZE);
+            return count;
+        }
+    }
+    
+    /**
+     * Reads all VMs of a binary VM file.
+     */
+    public static List<VirtualMachine> readVirtualMachines(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            long count = readHeader(buffer, KIND_VMS, VM_RECORD_SIZE, channel.size(), path);
+            
+            List<VirtualMachine> vms = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++) {
+                int base = HEADER_SIZE + i * VM_RECORD_SIZE;
+                vms.add(new VirtualMachine(
+                        buffer.getInt(base),
+                        buffer.getDouble(base + 8),
+                        buffer.getDouble(base + 16),
+                        buffer.getDouble(base + 24),
+                        buffer.getInt(base + 4),
+                        buffer.getLong(base + 32),
+                        buffer.getLong(base + 40),
+                        buffer.getLong(base + 48)));
+            }
+            return vms;
+        }
+    }
+    
+    /**
+     * Validates the header of a mapped file.
+     * @return The record count
+     */
+    static long readHeader(ByteBuffer buffer, short kind, int recordSize, long fileSize, Path path) throws IOException {
+        if (fileSize < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a binary workload file");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException(path + ": unsupported format version " + buffer.getShort(4));
+        }
+        if (buffer.getShort(6) != kind || buffer.getInt(16) != recordSize) {
+            throw new IOException(path + ": expected " + (kind == KIND_TASKS ? "task" : "VM") + " records");
+        }
+        long count = buffer.getLong(8);
+        if (count < 0) {
+            throw new IOException(path + ": invalid record count " + count);
+        }
+        // Compared by division so a huge declared count cannot overflow
+        if (count > (fileSize - HEADER_SIZE) / recordSize) {
+            throw new IOException(path + " is truncated: header declares " + count + " records");
+        }
+        return count;
+    }
+    
+    private static void writeHeader(FileChannel channel, short kind, long count, int recordSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putShort(kind);
+        header.putLong(count);
+        header.putInt(recordSize);
+        header.position(HEADER_SIZE);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+    
+    private static ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
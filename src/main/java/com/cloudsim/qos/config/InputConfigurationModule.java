@@ -1,6 +1,7 @@
 package com.cloudsim.qos.config;
 
 import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -8,8 +9,10 @@ import com.google.gson.reflect.TypeToken;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Scanner;
 
 /**
@@ -18,11 +21,17 @@ import java.util.Scanner;
  * This module is responsible for collecting and managing input parameters
  * required for the scheduling process. It allows users to define cloud tasks
  * and virtual machines along with their QoS constraints.
+ * 
+ * Tasks loaded from a file are kept only as a columnar {@link TaskTable};
+ * CloudTask objects are created from it on first use of
+ * {@link #getTasks()}, so schedulers fed {@link #getTaskTable()} never see
+ * per-task objects.
  */
 public class InputConfigurationModule {
     
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-    private List<CloudTask> tasks;
+    private List<CloudTask> tasks;          // null while tasks are only held in taskTable
+    private TaskTable taskTable;            // set when tasks were loaded from a file
     private List<VirtualMachine> virtualMachines;
     private SimulationConfig simulationConfig;
     
@@ -48,20 +57,38 @@ public class InputConfigurationModule {
     }
     
     /**
-     * Loads tasks from a JSON file.
+     * Loads tasks from a JSON file, streaming it record by record into a
+     * columnar table, or from a binary task file (*.bin) through a memory
+     * mapping. Either way no CloudTask objects are created until
+     * {@link #getTasks()} is called.
      */
     public void loadTasksFromFile(String filePath) throws IOException {
-        try (Reader reader = new FileReader(filePath)) {
-            Type listType = new TypeToken<ArrayList<CloudTask>>(){}.getType();
-            tasks = gson.fromJson(reader, listType);
-            System.out.println("Loaded " + tasks.size() + " tasks from " + filePath);
+        if (isBinary(filePath)) {
+            long start = System.nanoTime();
+            taskTable = new MappedTaskFile(filePath).toTaskTable();
+            tasks = null;
+            System.out.println("Loaded " + taskTable.size() + " tasks from " + filePath +
+                    String.format(" (%.1f ms)", (System.nanoTime() - start) / 1e6));
+            return;
         }
+        StreamingTaskLoader loader = new StreamingTaskLoader(filePath);
+        TaskTable.Builder builder = new TaskTable.Builder();
+        loader.forEachRecord(builder::add);
+        taskTable = builder.build();
+        tasks = null;
+        System.out.println("Loaded " + taskTable.size() + " tasks from " + filePath +
+                String.format(" (%.0f tasks/s)", loader.getTasksPerSecond()));
     }
     
     /**
-     * Loads VMs from a JSON file.
+     * Loads VMs from a JSON file or a binary VM file (*.bin).
      */
     public void loadVMsFromFile(String filePath) throws IOException {
+        if (isBinary(filePath)) {
+            virtualMachines = BinaryWorkload.readVirtualMachines(Paths.get(filePath));
+            System.out.println("Loaded " + virtualMachines.size() + " VMs from " + filePath);
+            return;
+        }
         try (Reader reader = new FileReader(filePath)) {
             Type listType = new TypeToken<ArrayList<VirtualMachine>>(){}.getType();
             virtualMachines = gson.fromJson(reader, listType);
@@ -99,6 +126,10 @@ public class InputConfigurationModule {
         System.out.print("\nEnter number of tasks: ");
         int numTasks = scanner.nextInt();
         
+        // New tasks are appended to the object list, which replaces any loaded table
+        taskObjects();
+        taskTable = null;
+        
         for (int i = 0; i < numTasks; i++) {
             System.out.println("\n--- Task " + (i + 1) + " ---");
             CloudTask task = collectTaskInput(scanner, i + 1);
@@ -161,19 +192,62 @@ public class InputConfigurationModule {
      * Generates sample/default configuration for testing.
      */
     public void generateSampleConfiguration(int numTasks, int numVMs) {
-        tasks.clear();
+        generateSample(numTasks, numVMs, new Random());
+        System.out.println("Generated sample configuration: " + numTasks + " tasks, " + numVMs + " VMs");
+    }
+    
+    /**
+     * Generates a reproducible sample configuration from a fixed seed.
+     */
+    public void generateSampleConfiguration(int numTasks, int numVMs, long seed) {
+        generateSample(numTasks, numVMs, new Random(seed));
+        System.out.println("Generated sample configuration: " + numTasks + " tasks, " + numVMs + " VMs");
+    }
+    
+    /**
+     * Generates the same workload as generateSampleConfiguration(numTasks,
+     * numVMs, seed) without printing, for callers that generate many
+     * workloads (e.g. replications on worker threads).
+     */
+    public void generateSampleWorkload(int numTasks, int numVMs, long seed) {
+        generateSample(numTasks, numVMs, new Random(seed));
+    }
+    
+    private void generateSample(int numTasks, int numVMs, Random random) {
+        clearTasks();
         virtualMachines.clear();
         
         // Generate sample tasks with varying requirements
         for (int i = 1; i <= numTasks; i++) {
-            long length = 1000 + (long)(Math.random() * 9000);  // 1000-10000 MI
-            double deadline = 5 + Math.random() * 15;           // 5-20 seconds
-            double budget = 0.5 + Math.random() * 2.0;          // $0.5-$2.5
-            int priority = 1 + (int)(Math.random() * 10);       // 1-10
+            long length = 1000 + (long)(random.nextDouble() * 9000);  // 1000-10000 MI
+            double deadline = 5 + random.nextDouble() * 15;           // 5-20 seconds
+            double budget = 0.5 + random.nextDouble() * 2.0;          // $0.5-$2.5
+            int priority = 1 + (int)(random.nextDouble() * 10);       // 1-10
             
             tasks.add(new CloudTask(i, length, deadline, budget, priority));
         }
         
+        generateSampleVirtualMachines(numVMs, random);
+    }
+    
+    /**
+     * Generates a synthetic configuration: all tasks of the generator plus
+     * sample VMs seeded from the generator's seed. For workloads too large
+     * to hold in memory, iterate the generator directly instead.
+     */
+    public void generateSyntheticConfiguration(WorkloadGenerator generator, int numVMs) {
+        clearTasks();
+        virtualMachines.clear();
+        
+        tasks.addAll(generator.generate());
+        generateSampleVirtualMachines(numVMs, new Random(generator.getSeed()));
+        
+        System.out.println("Generated synthetic configuration: " + tasks.size() + " tasks (" +
+                generator.getArrivalProcess() + " arrivals, " + generator.getLengthDistribution() +
+                " lengths), " + numVMs + " VMs");
+    }
+    
+    private void generateSampleVirtualMachines(int numVMs, Random random) {
         // Generate sample VMs with varying capabilities
         double[][] vmConfigs = {
             {1000, 0.05, 0.1},   // Low-cost, slow
@@ -185,15 +259,13 @@ public class InputConfigurationModule {
         
         for (int i = 0; i < numVMs; i++) {
             int configIndex = i % vmConfigs.length;
-            double mips = vmConfigs[configIndex][0] + (Math.random() * 500 - 250);
-            double cost = vmConfigs[configIndex][1] * (0.9 + Math.random() * 0.2);
-            double latency = vmConfigs[configIndex][2] * (0.8 + Math.random() * 0.4);
+            double mips = vmConfigs[configIndex][0] + (random.nextDouble() * 500 - 250);
+            double cost = vmConfigs[configIndex][1] * (0.9 + random.nextDouble() * 0.2);
+            double latency = vmConfigs[configIndex][2] * (0.8 + random.nextDouble() * 0.4);
             
             virtualMachines.add(new VirtualMachine(i + 1, mips, cost, latency,
-                    1 + (int)(Math.random() * 4), 2048, 1000, 10000));
+                    1 + (int)(random.nextDouble() * 4), 2048, 1000, 10000));
         }
-        
-        System.out.println("Generated sample configuration: " + numTasks + " tasks, " + numVMs + " VMs");
     }
     
     /**
@@ -203,15 +275,16 @@ public class InputConfigurationModule {
         List<String> errors = new ArrayList<>();
         
         // Validate tasks
-        for (CloudTask task : tasks) {
-            if (task.getTaskLength() <= 0) {
-                errors.add("Task " + task.getTaskId() + ": Invalid task length");
+        TaskTable table = getTaskTable();
+        for (int i = 0; i < table.size(); i++) {
+            if (table.getTaskLength(i) <= 0) {
+                errors.add("Task " + table.getTaskId(i) + ": Invalid task length");
             }
-            if (task.getDeadline() <= 0) {
-                errors.add("Task " + task.getTaskId() + ": Invalid deadline");
+            if (table.getDeadline(i) <= 0) {
+                errors.add("Task " + table.getTaskId(i) + ": Invalid deadline");
             }
-            if (task.getBudget() <= 0) {
-                errors.add("Task " + task.getTaskId() + ": Invalid budget");
+            if (table.getBudget(i) <= 0) {
+                errors.add("Task " + table.getTaskId(i) + ": Invalid budget");
             }
         }
         
@@ -253,7 +326,7 @@ public class InputConfigurationModule {
         
         // Save tasks
         try (Writer writer = new FileWriter(outputDir + "/tasks.json")) {
-            gson.toJson(tasks, writer);
+            gson.toJson(taskObjects(), writer);
         }
         
         // Save VMs
@@ -281,14 +354,15 @@ public class InputConfigurationModule {
         System.out.println("  Alpha (Time Weight): " + simulationConfig.getAlpha());
         System.out.println("  Beta (Cost Weight): " + simulationConfig.getBeta());
         
-        System.out.println("\nTasks (" + tasks.size() + "):");
+        TaskTable table = getTaskTable();
+        System.out.println("\nTasks (" + table.size() + "):");
         System.out.println(String.format("  %-6s %-12s %-12s %-12s %-8s",
                 "ID", "Length(MI)", "Deadline(s)", "Budget($)", "Priority"));
         System.out.println("  " + "-".repeat(50));
-        for (CloudTask task : tasks) {
+        for (int i = 0; i < table.size(); i++) {
             System.out.println(String.format("  %-6d %-12d %-12.2f %-12.2f %-8d",
-                    task.getTaskId(), task.getTaskLength(), task.getDeadline(),
-                    task.getBudget(), task.getPriority()));
+                    table.getTaskId(i), table.getTaskLength(i), table.getDeadline(i),
+                    table.getBudget(i), table.getPriority(i)));
         }
         
         System.out.println("\nVirtual Machines (" + virtualMachines.size() + "):");
@@ -306,7 +380,15 @@ public class InputConfigurationModule {
     
     // Getters
     public List<CloudTask> getTasks() {
-        return new ArrayList<>(tasks);
+        return new ArrayList<>(taskObjects());
+    }
+    
+    /**
+     * Gets the tasks as a columnar table. A table loaded from a file is
+     * returned as is; otherwise one is built from the task objects.
+     */
+    public TaskTable getTaskTable() {
+        return taskTable != null ? taskTable : TaskTable.fromTasks(tasks);
     }
     
     public List<VirtualMachine> getVirtualMachines() {
@@ -323,6 +405,7 @@ public class InputConfigurationModule {
     
     public void setTasks(List<CloudTask> tasks) {
         this.tasks = new ArrayList<>(tasks);
+        this.taskTable = null;
     }
     
     public void setVirtualMachines(List<VirtualMachine> vms) {
@@ -335,8 +418,8 @@ public class InputConfigurationModule {
      * @param baseName The base name for configuration files (ignored, uses standard names)
      */
     public void loadFromFile(String directory, String baseName) throws IOException {
-        File tasksFile = new File(directory, "tasks.json");
-        File vmsFile = new File(directory, "vms.json");
+        File tasksFile = workloadFile(directory, "tasks");
+        File vmsFile = workloadFile(directory, "vms");
         File configFile = new File(directory, "config.json");
         
         if (tasksFile.exists()) {
@@ -349,4 +432,37 @@ public class InputConfigurationModule {
             loadSimulationConfig(configFile.getAbsolutePath());
         }
     }
+    
+    /**
+     * Resolves a workload file in a configuration directory. The binary form
+     * (name.bin, see {@link WorkloadConverter}) is preferred when it exists and
+     * is at least as new as name.json, so a stale conversion is never used.
+     */
+    public static File workloadFile(String directory, String name) {
+        File json = new File(directory, name + ".json");
+        File binary = new File(directory, name + ".bin");
+        if (binary.exists() && (!json.exists() || binary.lastModified() >= json.lastModified())) {
+            return binary;
+        }
+        return json;
+    }
+    
+    /**
+     * Gets the task objects, creating them from the loaded table on first use.
+     */
+    private List<CloudTask> taskObjects() {
+        if (tasks == null) {
+            tasks = taskTable.toTaskList();
+        }
+        return tasks;
+    }
+    
+    private void clearTasks() {
+        tasks = new ArrayList<>();
+        taskTable = null;
+    }
+    
+    private static boolean isBinary(String filePath) {
+        return filePath.toLowerCase().endsWith(".bin");
+    }
 }
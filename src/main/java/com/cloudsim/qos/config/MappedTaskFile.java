@@ -0,0 +1,161 @@
+package com.cloudsim.qos.config;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.TaskTable;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cloudsim.qos.config.BinaryWorkload.*;
+
+/**
+ * Read-only view of a binary task file (see {@link BinaryWorkload}) over
+ * memory-mapped buffers.
+ * 
+ * Opening a file only maps it and validates the header; nothing is parsed or
+ * copied. Column getters read a field of record i in place, so a scheduler can
+ * scan e.g. all task lengths straight from the page cache. Files larger than
+ * one mapping (2 GB) are split into segments of whole records.
+ */
+public class MappedTaskFile {
+    
+    // Records per mapped segment: 2^25 * 40 bytes = 1.25 GB
+    private static final int SEGMENT_SHIFT = 25;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    
+    private final String filePath;
+    private final int taskCount;
+    private final MappedByteBuffer[] segments;
+    
+    public MappedTaskFile(String filePath) throws IOException {
+        this.filePath = filePath;
+        Path path = Paths.get(filePath);
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(fileSize, HEADER_SIZE));
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            long count = readHeader(header, KIND_TASKS, TASK_RECORD_SIZE, fileSize, path);
+            if (count > Integer.MAX_VALUE) {
+                throw new IOException(path + ": too many tasks (" + count + ")");
+            }
+            this.taskCount = (int) count;
+            
+            // The mapping stays valid after the channel is closed
+            int segmentCount = (int) ((count + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s << SEGMENT_SHIFT;
+                long records = Math.min(count - first, 1L << SEGMENT_SHIFT);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * TASK_RECORD_SIZE, records * TASK_RECORD_SIZE);
+                segments[s].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+    }
+    
+    public int getTaskId(int index) {
+        return segment(index).getInt(offset(index) + TASK_ID);
+    }
+    
+    public long getTaskLength(int index) {
+        return segment(index).getLong(offset(index) + TASK_LENGTH);
+    }
+    
+    public double getDeadline(int index) {
+        return segment(index).getDouble(offset(index) + TASK_DEADLINE);
+    }
+    
+    public double getBudget(int index) {
+        return segment(index).getDouble(offset(index) + TASK_BUDGET);
+    }
+    
+    public int getPriority(int index) {
+        return segment(index).getInt(offset(index) + TASK_PRIORITY);
+    }
+    
+    public double getArrivalTime(int index) {
+        return segment(index).getDouble(offset(index) + TASK_ARRIVAL);
+    }
+    
+    /**
+     * Creates a CloudTask from record i.
+     */
+    public CloudTask getTask(int index) {
+        MappedByteBuffer segment = segment(index);
+        int base = offset(index);
+        CloudTask task = new CloudTask(
+                segment.getInt(base + TASK_ID),
+                segment.getLong(base + TASK_LENGTH),
+                segment.getDouble(base + TASK_DEADLINE),
+                segment.getDouble(base + TASK_BUDGET),
+                segment.getInt(base + TASK_PRIORITY));
+        task.setArrivalTime(segment.getDouble(base + TASK_ARRIVAL));
+        return task;
+    }
+    
+    /**
+     * Materializes all records as CloudTask objects.
+     */
+    public List<CloudTask> toTaskList() {
+        List<CloudTask> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(getTask(i));
+        }
+        return tasks;
+    }
+    
+    /**
+     * Copies all records into a columnar task table.
+     */
+    public TaskTable toTaskTable() {
+        TaskTable.Builder builder = new TaskTable.Builder(taskCount);
+        forEachRecord(builder::add);
+        return builder.build();
+    }
+    
+    /**
+     * Streams the fields of every record without creating CloudTask objects.
+     * @return Number of tasks visited
+     */
+    public long forEachRecord(StreamingTaskLoader.TaskRecordConsumer consumer) {
+        for (int s = 0; s < segments.length; s++) {
+            MappedByteBuffer segment = segments[s];
+            int records = segment.capacity() / TASK_RECORD_SIZE;
+            for (int r = 0, base = 0; r < records; r++, base += TASK_RECORD_SIZE) {
+                consumer.accept(
+                        segment.getInt(base + TASK_ID),
+                        segment.getLong(base + TASK_LENGTH),
+                        segment.getDouble(base + TASK_DEADLINE),
+                        segment.getDouble(base + TASK_BUDGET),
+                        segment.getInt(base + TASK_PRIORITY),
+                        segment.getDouble(base + TASK_ARRIVAL));
+            }
+        }
+        return taskCount;
+    }
+    
+    private MappedByteBuffer segment(int index) {
+        return segments[index >>> SEGMENT_SHIFT];
+    }
+    
+    private static int offset(int index) {
+        return (index & SEGMENT_MASK) * TASK_RECORD_SIZE;
+    }
+    
+    public int getTaskCount() {
+        return taskCount;
+    }
+    
+    public String getFilePath() {
+        return filePath;
+    }
+}
@@ -23,6 +23,13 @@ public class SimulationConfig {
     private double budgetTolerance = 0.1;    // 10% tolerance
     private double maxDeadline = 100.0;      // Maximum deadline constraint
     private double maxBudget = 100.0;        // Maximum budget constraint
+    private boolean parallelProfiling = false;  // Build profile matrices on the fork-join pool
+    private boolean lazyProfiling = false;      // Profile each task only when it is scheduled
+    private boolean vectorScoring = false;      // Score tasks across VMs with the JDK Vector API
+    private boolean vmPruning = true;           // Skip Pareto-dominated VMs in QoS-aware selection
+    private int gaPopulationSize = 60;          // Plans per generation of the genetic schedulers
+    private int gaGenerations = 5000;           // Generation limit of the genetic schedulers
+    private long gaTimeBudgetMs = 2000;         // Wall-clock limit of the genetic schedulers
     
     // CloudSim specific settings
     private int numberOfDatacenters = 1;
@@ -138,6 +145,62 @@ public class SimulationConfig {
         this.maxBudget = maxBudget;
     }
     
+    public boolean isParallelProfiling() {
+        return parallelProfiling;
+    }
+    
+    public void setParallelProfiling(boolean parallelProfiling) {
+        this.parallelProfiling = parallelProfiling;
+    }
+    
+    public boolean isLazyProfiling() {
+        return lazyProfiling;
+    }
+    
+    public void setLazyProfiling(boolean lazyProfiling) {
+        this.lazyProfiling = lazyProfiling;
+    }
+    
+    public boolean isVectorScoring() {
+        return vectorScoring;
+    }
+    
+    public void setVectorScoring(boolean vectorScoring) {
+        this.vectorScoring = vectorScoring;
+    }
+    
+    public boolean isVmPruning() {
+        return vmPruning;
+    }
+    
+    public void setVmPruning(boolean vmPruning) {
+        this.vmPruning = vmPruning;
+    }
+    
+    public int getGaPopulationSize() {
+        return gaPopulationSize;
+    }
+    
+    public void setGaPopulationSize(int gaPopulationSize) {
+        this.gaPopulationSize = gaPopulationSize;
+    }
+    
+    public int getGaGenerations() {
+        return gaGenerations;
+    }
+    
+    public void setGaGenerations(int gaGenerations) {
+        this.gaGenerations = gaGenerations;
+    }
+    
+    public long getGaTimeBudgetMs() {
+        return gaTimeBudgetMs;
+    }
+    
+    public void setGaTimeBudgetMs(long gaTimeBudgetMs) {
+        this.gaTimeBudgetMs = gaTimeBudgetMs;
+    }
+    
     public int getNumberOfDatacenters() {
         return numberOfDatacenters;
     }
@@ -0,0 +1,167 @@
+package com.cloudsim.qos.config;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+/**
+ * Streaming loader for tasks.json files.
+ * 
+ * Reads the task array token by token with Gson's JsonReader over a buffered
+ * stream and hands each task to the caller as soon as it is parsed, so only
+ * one task is in flight at a time and heap use does not grow with file size.
+ * Tasks can be received as CloudTask objects, or as primitive fields via
+ * {@link TaskRecordConsumer} to fill a columnar store without creating objects.
+ * 
+ * Parsing throughput (tasks per second) is recorded for the last load.
+ */
+public class StreamingTaskLoader {
+    
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    /**
+     * Receives the scheduling inputs of one task.
+     */
+    @FunctionalInterface
+    public interface TaskRecordConsumer {
+        void accept(int taskId, long taskLength, double deadline, double budget,
+                    int priority, double arrivalTime);
+    }
+    
+    private final String filePath;
+    private long tasksRead;
+    private long elapsedNanos;
+    
+    public StreamingTaskLoader(String filePath) {
+        this.filePath = filePath;
+    }
+    
+    /**
+     * Streams every task in the file to the consumer as a CloudTask.
+     * @return Number of tasks read
+     */
+    public long forEach(Consumer<? super CloudTask> consumer) throws IOException {
+        return read(consumer, null);
+    }
+    
+    /**
+     * Streams the scheduling inputs of every task without creating CloudTask
+     * objects. Result fields stored in the file are skipped.
+     * @return Number of tasks read
+     */
+    public long forEachRecord(TaskRecordConsumer consumer) throws IOException {
+        return read(null, consumer);
+    }
+    
+    private long read(Consumer<? super CloudTask> taskConsumer, TaskRecordConsumer recordConsumer) throws IOException {
+        long start = System.nanoTime();
+        tasksRead = 0;
+        
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                new BufferedInputStream(Files.newInputStream(Paths.get(filePath)), BUFFER_SIZE),
+                StandardCharsets.UTF_8))) {
+            reader.setLenient(true);   // Same leniency as Gson.fromJson
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (taskConsumer != null) {
+                    taskConsumer.accept(readTask(reader));
+                } else {
+                    readRecord(reader, recordConsumer);
+                }
+                tasksRead++;
+            }
+            reader.endArray();
+        } catch (IllegalStateException | NumberFormatException e) {
+            // JsonReader reports structural errors as IllegalStateException
+            throw new IOException("Malformed task file " + filePath + " after " + tasksRead + " tasks: " +
+                    e.getMessage(), e);
+        } finally {
+            elapsedNanos = System.nanoTime() - start;
+        }
+        return tasksRead;
+    }
+    
+    private static CloudTask readTask(JsonReader reader) throws IOException {
+        CloudTask task = new CloudTask();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "taskId": task.setTaskId(reader.nextInt()); break;
+                case "taskLength": task.setTaskLength(reader.nextLong()); break;
+                case "deadline": task.setDeadline(reader.nextDouble()); break;
+                case "budget": task.setBudget(reader.nextDouble()); break;
+                case "priority": task.setPriority(reader.nextInt()); break;
+                case "arrivalTime": task.setArrivalTime(reader.nextDouble()); break;
+                case "assignedVmId": task.setAssignedVmId(reader.nextInt()); break;
+                case "estimatedExecutionTime": task.setEstimatedExecutionTime(reader.nextDouble()); break;
+                case "estimatedCost": task.setEstimatedCost(reader.nextDouble()); break;
+                case "actualExecutionTime": task.setActualExecutionTime(reader.nextDouble()); break;
+                case "actualCost": task.setActualCost(reader.nextDouble()); break;
+                case "deadlineMet": task.setDeadlineMet(reader.nextBoolean()); break;
+                case "budgetMet": task.setBudgetMet(reader.nextBoolean()); break;
+                default: reader.skipValue(); break;
+            }
+        }
+        reader.endObject();
+        return task;
+    }
+    
+    private static void readRecord(JsonReader reader, TaskRecordConsumer consumer) throws IOException {
+        int taskId = 0, priority = 0;
+        long taskLength = 0;
+        double deadline = 0, budget = 0, arrivalTime = 0;
+        
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "taskId": taskId = reader.nextInt(); break;
+                case "taskLength": taskLength = reader.nextLong(); break;
+                case "deadline": deadline = reader.nextDouble(); break;
+                case "budget": budget = reader.nextDouble(); break;
+                case "priority": priority = reader.nextInt(); break;
+                case "arrivalTime": arrivalTime = reader.nextDouble(); break;
+                default: reader.skipValue(); break;
+            }
+        }
+        reader.endObject();
+        consumer.accept(taskId, taskLength, deadline, budget, priority, arrivalTime);
+    }
+    
+    public String getFilePath() {
+        return filePath;
+    }
+    
+    /**
+     * Gets the number of tasks read by the last load.
+     */
+    public long getTasksRead() {
+        return tasksRead;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    /**
+     * Gets the parsing throughput of the last load.
+     */
+    public double getTasksPerSecond() {
+        return elapsedNanos == 0 ? 0 : tasksRead * 1e9 / elapsedNanos;
+    }
+}
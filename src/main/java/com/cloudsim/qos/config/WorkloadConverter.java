@@ -0,0 +1,183 @@
+package com.cloudsim.qos.config;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts task and VM files from JSON or CSV to the binary workload format
+ * (see {@link BinaryWorkload}).
+ * 
+ * JSON task files are streamed record by record into the binary writer, so
+ * files larger than the heap convert in constant memory. The CSV readers use
+ * the same columns as the GUI's CSV export.
+ * 
+ * Usage:
+ *   java -cp qos-task-scheduler.jar com.cloudsim.qos.config.WorkloadConverter <configDir>
+ *   java -cp qos-task-scheduler.jar com.cloudsim.qos.config.WorkloadConverter tasks|vms <input> <output>
+ */
+public class WorkloadConverter {
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length == 1) {
+            convertDirectory(Paths.get(args[0]));
+        } else if (args.length == 3 && "tasks".equals(args[0])) {
+            convertTasks(Paths.get(args[1]), Paths.get(args[2]));
+        } else if (args.length == 3 && "vms".equals(args[0])) {
+            convertVirtualMachines(Paths.get(args[1]), Paths.get(args[2]));
+        } else {
+            System.err.println("Usage: WorkloadConverter <configDir>");
+            System.err.println("       WorkloadConverter tasks|vms <input.json|input.csv> <output.bin>");
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Converts tasks.json/vms.json (or tasks.csv/vms.csv) in a configuration
+     * directory to tasks.bin/vms.bin next to them.
+     */
+    public static void convertDirectory(Path directory) throws IOException {
+        Path tasks = firstExisting(directory, "tasks.json", "tasks.csv");
+        Path vms = firstExisting(directory, "vms.json", "vms.csv");
+        if (tasks == null && vms == null) {
+            throw new FileNotFoundException("No tasks or VMs file in " + directory);
+        }
+        if (tasks != null) {
+            convertTasks(tasks, directory.resolve("tasks.bin"));
+        }
+        if (vms != null) {
+            convertVirtualMachines(vms, directory.resolve("vms.bin"));
+        }
+    }
+    
+    /**
+     * Converts a JSON or CSV task file to a binary task file.
+     * @return Number of tasks converted
+     */
+    public static long convertTasks(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        long count;
+        
+        if (isCsv(input)) {
+            count = BinaryWorkload.writeTasks(output, readTasksFromCSV(input));
+        } else {
+            try (BinaryWorkload.TaskWriter writer = new BinaryWorkload.TaskWriter(output)) {
+                new StreamingTaskLoader(input.toString()).forEachRecord(writer);
+                count = writer.getCount();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        
+        System.out.println(String.format("Converted %d tasks: %s -> %s (%.1f ms)",
+                count, input, output, (System.nanoTime() - start) / 1e6));
+        return count;
+    }
+    
+    /**
+     * Converts a JSON or CSV VM file to a binary VM file.
+     * @return Number of VMs converted
+     */
+    public static long convertVirtualMachines(Path input, Path output) throws IOException {
+        List<VirtualMachine> vms;
+        if (isCsv(input)) {
+            vms = readVMsFromCSV(input);
+        } else {
+            try (Reader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                Type listType = new TypeToken<ArrayList<VirtualMachine>>(){}.getType();
+                vms = new Gson().fromJson(reader, listType);
+            }
+        }
+        long count = BinaryWorkload.writeVirtualMachines(output, vms);
+        System.out.println("Converted " + count + " VMs: " + input + " -> " + output);
+        return count;
+    }
+    
+    /**
+     * Reads tasks from a CSV file with the columns
+     * TaskId,TaskLength,Deadline,Budget,Priority[,ArrivalTime].
+     * The header line is skipped, as are lines with too few columns.
+     */
+    public static List<CloudTask> readTasksFromCSV(Path path) throws IOException {
+        List<CloudTask> tasks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // Skip header
+            
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length >= 5) {
+                    CloudTask task = new CloudTask(
+                        Integer.parseInt(parts[0].trim()),   // taskId
+                        Long.parseLong(parts[1].trim()),     // taskLength
+                        Double.parseDouble(parts[2].trim()), // deadline
+                        Double.parseDouble(parts[3].trim()), // budget
+                        Integer.parseInt(parts[4].trim())    // priority
+                    );
+                    if (parts.length >= 6) {
+                        task.setArrivalTime(Double.parseDouble(parts[5].trim()));
+                    }
+                    tasks.add(task);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed task CSV " + path + ": " + e.getMessage(), e);
+        }
+        return tasks;
+    }
+    
+    /**
+     * Reads VMs from a CSV file with the columns
+     * VmId,MIPS,CostPerSecond,NetworkLatency,PEs,RAM,Bandwidth,Storage.
+     * The header line is skipped, as are lines with too few columns.
+     */
+    public static List<VirtualMachine> readVMsFromCSV(Path path) throws IOException {
+        List<VirtualMachine> vms = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // Skip header
+            
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length >= 8) {
+                    VirtualMachine vm = new VirtualMachine(
+                        Integer.parseInt(parts[0].trim()),     // vmId
+                        Double.parseDouble(parts[1].trim()),   // mips
+                        Double.parseDouble(parts[2].trim()),   // costPerSecond
+                        Double.parseDouble(parts[3].trim()),   // networkLatency
+                        Integer.parseInt(parts[4].trim()),     // pes
+                        Long.parseLong(parts[5].trim()),       // ram
+                        Long.parseLong(parts[6].trim()),       // bandwidth
+                        Long.parseLong(parts[7].trim())        // storage
+                    );
+                    vms.add(vm);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed VM CSV " + path + ": " + e.getMessage(), e);
+        }
+        return vms;
+    }
+    
+    private static boolean isCsv(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(".csv");
+    }
+    
+    private static Path firstExisting(Path directory, String... names) {
+        for (String name : names) {
+            Path candidate = directory.resolve(name);
+            if (Files.exists(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,360 @@
+package com.cloudsim.qos.config;
+
+import com.cloudsim.qos.model.CloudTask;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Seeded, streaming synthetic workload generator.
+ * 
+ * Tasks are produced lazily, one at a time, by an iterator, so a workload
+ * of any size can be streamed into a scheduler or a file without being held
+ * in memory. Every iterator restarts from the seed, so the same generator
+ * always yields the same task sequence.
+ * 
+ * Arrival processes:
+ *   BATCH    - every task arrives at t=0 (what the batch schedulers assume)
+ *   POISSON  - exponential inter-arrival times at arrivalRate
+ *   MMPP     - two-state Markov-modulated Poisson process: a base state at
+ *              arrivalRate and a burst state at arrivalRate × burstFactor,
+ *              with exponentially distributed state durations
+ *   DIURNAL  - non-homogeneous Poisson process with rate
+ *              arrivalRate × (1 + amplitude × sin(2πt / period)), by thinning
+ * 
+ * Task lengths are UNIFORM (1000-10000 MI, as in the sample configuration),
+ * PARETO or LOGNORMAL. Deadlines and budgets scale with task length: the
+ * deadline is the run time on a reference VM times a random slack factor,
+ * and the budget is the cost on a reference VM times a random headroom factor.
+ */
+public class WorkloadGenerator implements Iterable<CloudTask> {
+    
+    public enum ArrivalProcess {
+        BATCH,
+        POISSON,
+        MMPP,
+        DIURNAL
+    }
+    
+    public enum LengthDistribution {
+        UNIFORM,
+        PARETO,
+        LOGNORMAL
+    }
+    
+    // Reference VM used to derive deadlines and budgets from task length
+    private static final double REFERENCE_MIPS = 1000;
+    private static final double REFERENCE_COST_PER_MI = 0.00005;   // $0.05/s at 1000 MIPS
+    
+    private final long seed;
+    private final long numTasks;
+    
+    private ArrivalProcess arrivalProcess = ArrivalProcess.POISSON;
+    private double arrivalRate = 10.0;          // Tasks per second (base rate)
+    private double burstFactor = 5.0;           // MMPP burst rate multiplier
+    private double meanBaseDuration = 60.0;     // MMPP mean time in the base state (s)
+    private double meanBurstDuration = 10.0;    // MMPP mean time in the burst state (s)
+    private double diurnalPeriod = 86400.0;     // Seconds per cycle
+    private double diurnalAmplitude = 0.8;      // Relative swing around the base rate, in [0, 1]
+    
+    private LengthDistribution lengthDistribution = LengthDistribution.UNIFORM;
+    private double paretoShape = 1.5;
+    private double paretoScale = 1000;          // Minimum length (MI)
+    private double logNormalMu = Math.log(4000);
+    private double logNormalSigma = 1.0;
+    private long maxLength = 10_000_000;        // Caps heavy tails (MI)
+    
+    private double minDeadlineSlack = 1.5;
+    private double maxDeadlineSlack = 4.0;
+    private double minBudgetFactor = 1.5;
+    private double maxBudgetFactor = 5.0;
+    
+    public WorkloadGenerator(long numTasks, long seed) {
+        this.numTasks = numTasks;
+        this.seed = seed;
+    }
+    
+    /**
+     * Returns a new iterator over the workload, starting from the seed.
+     */
+    @Override
+    public Iterator<CloudTask> iterator() {
+        return new TaskIterator();
+    }
+    
+    /**
+     * Streams the workload lazily.
+     */
+    public Stream<CloudTask> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(iterator(), numTasks, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Materializes the whole workload. Only for workloads that fit in memory.
+     */
+    public List<CloudTask> generate() {
+        List<CloudTask> tasks = new ArrayList<>((int) Math.min(numTasks, Integer.MAX_VALUE - 8));
+        forEach(tasks::add);
+        return tasks;
+    }
+    
+    @Override
+    public void forEach(Consumer<? super CloudTask> action) {
+        Iterator<CloudTask> iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+    
+    /**
+     * Generator state for one pass over the workload.
+     */
+    private class TaskIterator implements Iterator<CloudTask> {
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private long produced;
+        private double clock;
+        
+        // MMPP state
+        private boolean burst;
+        private double stateEnd = Double.NaN;
+        
+        @Override
+        public boolean hasNext() {
+            return produced < numTasks;
+        }
+        
+        @Override
+        public CloudTask next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            produced++;
+            clock = nextArrival();
+            
+            long length = nextLength();
+            double referenceTime = length / REFERENCE_MIPS;
+            double deadline = referenceTime * uniform(minDeadlineSlack, maxDeadlineSlack);
+            double budget = length * REFERENCE_COST_PER_MI * uniform(minBudgetFactor, maxBudgetFactor);
+            int priority = 1 + random.nextInt(10);
+            
+            if (produced > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Task ids are ints; workload exceeds " + Integer.MAX_VALUE + " tasks");
+            }
+            CloudTask task = new CloudTask((int) produced, length, deadline, budget, priority);
+            task.setArrivalTime(clock);
+            return task;
+        }
+        
+        private double nextArrival() {
+            switch (arrivalProcess) {
+                case BATCH:
+                    return 0;
+                case POISSON:
+                    return clock + exponential(arrivalRate);
+                case MMPP:
+                    return nextMmppArrival();
+                case DIURNAL:
+                    return nextDiurnalArrival();
+                default:
+                    throw new IllegalStateException("Unknown arrival process: " + arrivalProcess);
+            }
+        }
+        
+        private double nextMmppArrival() {
+            if (Double.isNaN(stateEnd)) {
+                stateEnd = exponential(1.0 / meanBaseDuration);
+            }
+            double t = clock;
+            while (true) {
+                double rate = burst ? arrivalRate * burstFactor : arrivalRate;
+                double candidate = t + exponential(rate);
+                if (candidate <= stateEnd) {
+                    return candidate;
+                }
+                // State switched before the arrival; the process is memoryless, so redraw from the switch
+                t = stateEnd;
+                burst = !burst;
+                stateEnd = t + exponential(1.0 / (burst ? meanBurstDuration : meanBaseDuration));
+            }
+        }
+        
+        private double nextDiurnalArrival() {
+            double peakRate = arrivalRate * (1 + diurnalAmplitude);
+            double t = clock;
+            while (true) {
+                t += exponential(peakRate);
+                double rate = arrivalRate * (1 + diurnalAmplitude * Math.sin(2 * Math.PI * t / diurnalPeriod));
+                if (random.nextDouble() * peakRate <= rate) {
+                    return t;
+                }
+            }
+        }
+        
+        private long nextLength() {
+            double length;
+            switch (lengthDistribution) {
+                case UNIFORM:
+                    length = 1000 + random.nextDouble() * 9000;
+                    break;
+                case PARETO:
+                    length = paretoScale * Math.pow(1.0 - random.nextDouble(), -1.0 / paretoShape);
+                    break;
+                case LOGNORMAL:
+                    length = Math.exp(logNormalMu + logNormalSigma * random.nextGaussian());
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown length distribution: " + lengthDistribution);
+            }
+            return Math.max(1, Math.min(maxLength, (long) length));
+        }
+        
+        private double exponential(double rate) {
+            return -Math.log(1.0 - random.nextDouble()) / rate;
+        }
+        
+        private double uniform(double min, double max) {
+            return min + random.nextDouble() * (max - min);
+        }
+    }
+    
+    // Getters and Setters
+    public long getSeed() {
+        return seed;
+    }
+    
+    public long getNumTasks() {
+        return numTasks;
+    }
+    
+    public ArrivalProcess getArrivalProcess() {
+        return arrivalProcess;
+    }
+    
+    public void setArrivalProcess(ArrivalProcess arrivalProcess) {
+        this.arrivalProcess = arrivalProcess;
+    }
+    
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+    
+    public void setArrivalRate(double arrivalRate) {
+        requirePositive("Arrival rate", arrivalRate);
+        this.arrivalRate = arrivalRate;
+    }
+    
+    /**
+     * Configures the MMPP burst state.
+     * @param burstFactor Burst rate as a multiple of the base arrival rate
+     * @param meanBaseDuration Mean seconds spent in the base state
+     * @param meanBurstDuration Mean seconds spent in the burst state
+     */
+    public void setBurstiness(double burstFactor, double meanBaseDuration, double meanBurstDuration) {
+        requirePositive("Burst factor", burstFactor);
+        requirePositive("Mean base duration", meanBaseDuration);
+        requirePositive("Mean burst duration", meanBurstDuration);
+        this.burstFactor = burstFactor;
+        this.meanBaseDuration = meanBaseDuration;
+        this.meanBurstDuration = meanBurstDuration;
+    }
+    
+    /**
+     * Configures the diurnal rate curve.
+     * @param period Seconds per cycle
+     * @param amplitude Relative swing around the base rate, in [0, 1]
+     */
+    public void setDiurnalCycle(double period, double amplitude) {
+        if (amplitude < 0 || amplitude > 1) {
+            throw new IllegalArgumentException("Diurnal amplitude must be in [0, 1]: " + amplitude);
+        }
+        requirePositive("Diurnal period", period);
+        this.diurnalPeriod = period;
+        this.diurnalAmplitude = amplitude;
+    }
+    
+    public LengthDistribution getLengthDistribution() {
+        return lengthDistribution;
+    }
+    
+    public void setLengthDistribution(LengthDistribution lengthDistribution) {
+        this.lengthDistribution = lengthDistribution;
+    }
+    
+    /**
+     * Configures Pareto task lengths.
+     * @param shape Tail index (smaller is heavier; the mean is infinite at or below 1)
+     * @param scale Minimum task length (MI)
+     */
+    public void setPareto(double shape, double scale) {
+        requirePositive("Pareto shape", shape);
+        requirePositive("Pareto scale", scale);
+        this.paretoShape = shape;
+        this.paretoScale = scale;
+    }
+    
+    /**
+     * Configures log-normal task lengths.
+     * @param mu Mean of ln(length)
+     * @param sigma Standard deviation of ln(length)
+     */
+    public void setLogNormal(double mu, double sigma) {
+        if (!Double.isFinite(mu)) {
+            throw new IllegalArgumentException("Log-normal mu must be finite: " + mu);
+        }
+        if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+            throw new IllegalArgumentException("Log-normal sigma must be finite and non-negative: " + sigma);
+        }
+        this.logNormalMu = mu;
+        this.logNormalSigma = sigma;
+    }
+    
+    public long getMaxLength() {
+        return maxLength;
+    }
+    
+    public void setMaxLength(long maxLength) {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be at least 1 MI: " + maxLength);
+        }
+        this.maxLength = maxLength;
+    }
+    
+    /**
+     * Sets the range of the deadline slack factor (deadline / reference run time).
+     */
+    public void setDeadlineSlack(double min, double max) {
+        requireRange("Deadline slack", min, max);
+        this.minDeadlineSlack = min;
+        this.maxDeadlineSlack = max;
+    }
+    
+    /**
+     * Sets the range of the budget factor (budget / reference cost).
+     */
+    public void setBudgetFactor(double min, double max) {
+        requireRange("Budget factor", min, max);
+        this.minBudgetFactor = min;
+        this.maxBudgetFactor = max;
+    }
+    
+    /**
+     * Rejects zero, negative, infinite and NaN values, which would make
+     * the arrival loops never return or every arrival time infinite.
+     */
+    private static void requirePositive(String name, double value) {
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " must be positive and finite: " + value);
+        }
+    }
+    
+    private static void requireRange(String name, double min, double max) {
+        requirePositive(name + " minimum", min);
+        requirePositive(name + " maximum", max);
+        if (min > max) {
+            throw new IllegalArgumentException(name + " minimum exceeds maximum: " + min + " > " + max);
+        }
+    }
+}
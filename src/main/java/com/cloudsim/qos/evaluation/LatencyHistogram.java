@@ -0,0 +1,107 @@
+package com.cloudsim.qos.evaluation;
+
+/**
+ * Fixed-memory, log-bucketed histogram for time values in seconds
+ * (HdrHistogram-style).
+ *
+ * Each power of two between 2^-20 s (about 1 µs) and 2^31 s is split into
+ * 128 linear sub-buckets, so a recorded value is off by less than 0.8%
+ * when read back. Recording is a constant-time array increment, and
+ * percentiles come from one scan over the buckets, with no sorting and no
+ * per-value storage. Values below the range share the first bucket and
+ * values above it share the last one.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = -20;
+    private static final int MAX_EXPONENT = 31;
+    private static final double LOWEST_VALUE = Math.scalb(1.0, MIN_EXPONENT);
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];   // [0] holds values below LOWEST_VALUE
+    private long totalCount;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     */
+    public void record(double value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketOf(value)]++;
+        totalCount++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Adds all counts of another histogram to this one.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the value at a percentile (0-100): the upper edge of the bucket
+     * holding the ranked value, capped at the largest recorded value.
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(upperBound(i), max));
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(double value) {
+        if (value < LOWEST_VALUE) {
+            return 0;
+        }
+        int exponent = Math.getExponent(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        // Top mantissa bits select the linear sub-bucket within the power of two
+        long mantissa = Double.doubleToRawLongBits(value) & 0x000FFFFFFFFFFFFFL;
+        int subBucket = (int) (mantissa >>> (52 - SUB_BUCKET_BITS));
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static double upperBound(int bucket) {
+        if (bucket == 0) {
+            return LOWEST_VALUE;
+        }
+        int exponent = (bucket - 1) / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = (bucket - 1) % SUB_BUCKETS;
+        return Math.scalb(1.0 + (subBucket + 1) / (double) SUB_BUCKETS, exponent);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public double getMax() {
+        return totalCount == 0 ? 0 : max;
+    }
+}
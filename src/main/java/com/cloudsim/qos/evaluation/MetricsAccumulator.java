@@ -0,0 +1,249 @@
+package com.cloudsim.qos.evaluation;
+
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass, allocation-free accumulator for scheduling metrics.
+ *
+ * Results are fed one at a time, so metrics can be read while a schedule is
+ * still being built, and evaluating any number of results takes constant
+ * memory. Time and cost spread use Welford's variance, replacing the
+ * boxed value lists and second pass over them. Response and waiting time
+ * percentiles come from fixed-size {@link LatencyHistogram}s.
+ *
+ * Busy time (finish - start) is summed per VM in dense slots, from which
+ * utilization, degree of imbalance and Jain's fairness index are derived.
+ * VMs given up front take slots in list order, so assignments over that
+ * list are accumulated by VM position; other results find their slot
+ * through a VM id map. VMs registered up front but never used count as idle.
+ * A VM with several PEs runs tasks concurrently, so its capacity is its
+ * PE count times the makespan and balance compares busy time per PE.
+ */
+public class MetricsAccumulator {
+
+    private final RunningStatistics times = new RunningStatistics();
+    private final RunningStatistics costs = new RunningStatistics();
+    private final LatencyHistogram responseTimes = new LatencyHistogram();   // finish - arrival
+    private final LatencyHistogram waitingTimes = new LatencyHistogram();    // start - arrival
+    private double sumLatency;
+    private double makespan;
+    private int deadlinesMet;
+    private int budgetsMet;
+    private int qosSatisfied;
+
+    private final Map<Integer, Integer> slots = new HashMap<>();   // vmId -> slot
+    private double[] busyTime = new double[16];     // [slot] -> summed busy time
+    private int[] pes = new int[16];                // [slot] -> number of PEs
+    private int numVMs;
+    private long totalPes;
+
+    // VM list given at construction and the slot of each of its positions
+    private final List<VirtualMachine> fleet;
+    private final int[] fleetSlots;
+
+    public MetricsAccumulator() {
+        this.fleet = null;
+        this.fleetSlots = null;
+    }
+
+    /**
+     * Creates an accumulator that counts every given VM, including VMs
+     * that end up with no tasks.
+     */
+    public MetricsAccumulator(List<VirtualMachine> vms) {
+        this.fleet = vms;
+        this.fleetSlots = new int[vms.size()];
+        for (int v = 0; v < vms.size(); v++) {
+            VirtualMachine vm = vms.get(v);
+            fleetSlots[v] = slotOf(vm.getVmId(), vm.getNumberOfPes());
+        }
+    }
+
+    /**
+     * Makes a single-PE VM part of the utilization and balance metrics.
+     */
+    public final void registerVm(int vmId) {
+        slotOf(vmId, 1);
+    }
+
+    /**
+     * Makes a VM part of the utilization and balance metrics. The PE count
+     * of the first registration is kept.
+     */
+    public final void registerVm(int vmId, int numberOfPes) {
+        slotOf(vmId, numberOfPes);
+    }
+
+    /**
+     * Gets the slot of a VM, registering it first if it is new.
+     */
+    private int slotOf(int vmId, int numberOfPes) {
+        Integer slot = slots.get(vmId);
+        if (slot != null) {
+            return slot;
+        }
+        if (numVMs == busyTime.length) {
+            busyTime = Arrays.copyOf(busyTime, numVMs * 2);
+            pes = Arrays.copyOf(pes, numVMs * 2);
+        }
+        int s = numVMs++;
+        slots.put(vmId, s);
+        pes[s] = Math.max(1, numberOfPes);
+        totalPes += pes[s];
+        return s;
+    }
+
+    /**
+     * Adds one scheduling result.
+     */
+    public void add(SchedulingResult result) {
+        int slot = slotOf(result.getVm().getVmId(), result.getVm().getNumberOfPes());
+        addAt(slot, result.getTotalTime(), result.getCost(), result.getVm().getNetworkLatency(),
+                result.getTask().getArrivalTime(), result.getStartTime(), result.getFinishTime(),
+                result.isDeadlineSatisfied(), result.isBudgetSatisfied(), result.isQoSSatisfied());
+    }
+
+    private void addAt(int slot, double totalTime, double cost, double latency,
+                       double arrivalTime, double startTime, double finishTime,
+                       boolean deadlineMet, boolean budgetMet, boolean qosMet) {
+        busyTime[slot] += finishTime - startTime;
+        
+        times.add(totalTime);
+        costs.add(cost);
+        sumLatency += latency;
+        responseTimes.record(finishTime - arrivalTime);
+        waitingTimes.record(startTime - arrivalTime);
+
+        if (finishTime > makespan) {
+            makespan = finishTime;
+        }
+
+        if (deadlineMet) deadlinesMet++;
+        if (budgetMet) budgetsMet++;
+        if (qosMet) qosSatisfied++;
+    }
+
+    /**
+     * Adds every decision of an assignment, in assignment order. An
+     * assignment over the VM list this accumulator was created with is
+     * accumulated by VM position, without id lookups.
+     */
+    public void add(Assignment assignment) {
+        TaskTable tasks = assignment.getTasks();
+        boolean byPosition = assignment.getVms() == fleet;
+        for (int k = 0; k < assignment.getAssignedCount(); k++) {
+            int t = assignment.getTaskAt(k);
+            VirtualMachine vm = assignment.getVm(t);
+            int slot = byPosition ? fleetSlots[assignment.getVmIndex(t)] : slotOf(vm.getVmId(), vm.getNumberOfPes());
+            addAt(slot, assignment.getTotalTime(t), assignment.getCost(t), vm.getNetworkLatency(),
+                    tasks.getArrivalTime(t), assignment.getStartTime(t), assignment.getFinishTime(t),
+                    assignment.isDeadlineMet(t), assignment.isBudgetMet(t), assignment.isQoSMet(t));
+        }
+    }
+
+    public int getCount() {
+        return (int) times.getCount();
+    }
+
+    /**
+     * Builds the metrics for the results added so far.
+     */
+    public PerformanceEvaluationModule.PerformanceMetrics toMetrics() {
+        PerformanceEvaluationModule.PerformanceMetrics metrics = new PerformanceEvaluationModule.PerformanceMetrics();
+        int n = getCount();
+        if (n == 0) {
+            return metrics;
+        }
+
+        metrics.totalTasks = n;
+
+        metrics.totalExecutionTime = times.getSum();
+        metrics.averageExecutionTime = times.getSum() / n;
+        metrics.totalCost = costs.getSum();
+        metrics.averageCost = costs.getSum() / n;
+        metrics.averageLatency = sumLatency / n;
+        metrics.makespan = makespan;
+
+        metrics.deadlinesMet = deadlinesMet;
+        metrics.deadlineMissRate = (n - deadlinesMet) * 100.0 / n;
+        metrics.budgetsMet = budgetsMet;
+        metrics.budgetViolationRate = (n - budgetsMet) * 100.0 / n;
+        metrics.qosSatisfied = qosSatisfied;
+        metrics.qosSatisfactionRate = qosSatisfied * 100.0 / n;
+
+        // Population standard deviations, as reported before
+        metrics.stdDevTime = times.getPopulationStdDev();
+        metrics.stdDevCost = costs.getPopulationStdDev();
+
+        metrics.throughput = n / makespan;
+        
+        metrics.p50ResponseTime = responseTimes.getValueAtPercentile(50);
+        metrics.p90ResponseTime = responseTimes.getValueAtPercentile(90);
+        metrics.p99ResponseTime = responseTimes.getValueAtPercentile(99);
+        metrics.p999ResponseTime = responseTimes.getValueAtPercentile(99.9);
+        metrics.p50WaitingTime = waitingTimes.getValueAtPercentile(50);
+        metrics.p90WaitingTime = waitingTimes.getValueAtPercentile(90);
+        metrics.p99WaitingTime = waitingTimes.getValueAtPercentile(99);
+        metrics.p999WaitingTime = waitingTimes.getValueAtPercentile(99.9);
+        
+        computeLoadMetrics(metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Derives utilization, imbalance and fairness from per-VM busy times.
+     */
+    private void computeLoadMetrics(PerformanceEvaluationModule.PerformanceMetrics metrics) {
+        double sum = 0, sumSquares = 0, totalBusy = 0;
+        double min = Double.MAX_VALUE, max = 0;
+        for (int slot = 0; slot < numVMs; slot++) {
+            totalBusy += busyTime[slot];
+            double busy = busyTime[slot] / pes[slot];
+            sum += busy;
+            sumSquares += busy * busy;
+            min = Math.min(min, busy);
+            max = Math.max(max, busy);
+        }
+
+        double mean = sum / numVMs;
+        // Share of the PE-time up to the makespan spent executing tasks
+        metrics.resourceUtilization = makespan > 0 ? totalBusy / (totalPes * makespan) * 100.0 : 0;
+        // Degree of imbalance: (max - min) / mean busy time per PE, 0 when perfectly even
+        metrics.loadImbalance = mean > 0 ? (max - min) / mean : 0;
+        // Jain's index: 1 when all VMs are equally busy, 1/n when one VM does everything
+        metrics.jainFairness = sumSquares > 0 ? sum * sum / (numVMs * sumSquares) : 1.0;
+    }
+
+    /**
+     * Gets the summed busy time of a VM.
+     */
+    public double getBusyTime(int vmId) {
+        Integer slot = slots.get(vmId);
+        return slot != null ? busyTime[slot] : 0;
+    }
+
+    public RunningStatistics getTimeStatistics() {
+        return times;
+    }
+
+    public RunningStatistics getCostStatistics() {
+        return costs;
+    }
+
+    public LatencyHistogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    public LatencyHistogram getWaitingTimes() {
+        return waitingTimes;
+    }
+}
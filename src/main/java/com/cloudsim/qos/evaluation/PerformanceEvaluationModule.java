@@ -1,6 +1,8 @@
 package com.cloudsim.qos.evaluation;
 
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.VirtualMachine;
 import com.cloudsim.qos.scheduler.TaskScheduler;
 
 import java.util.*;
@@ -39,77 +41,35 @@ public class PerformanceEvaluationModule {
     }
     
     /**
-     * Calculates performance metrics from scheduling results.
+     * Evaluates the assignment of one scheduler run.
+     * All VMs of the workload count towards the load metrics.
      */
-    private PerformanceMetrics calculateMetrics(List<SchedulingResult> results) {
-        PerformanceMetrics metrics = new PerformanceMetrics();
-        
-        if (results.isEmpty()) {
-            return metrics;
-        }
-        
-        metrics.totalTasks = results.size();
-        
-        double sumTime = 0, sumCost = 0, sumLatency = 0;
-        double maxFinishTime = 0;
-        int deadlinesMet = 0, budgetsMet = 0, qosSatisfied = 0;
-        
-        List<Double> executionTimes = new ArrayList<>();
-        List<Double> costs = new ArrayList<>();
+    public void evaluate(TaskScheduler scheduler, Assignment assignment) {
+        String schedulerName = scheduler.getName();
+        MetricsAccumulator accumulator = new MetricsAccumulator(assignment.getVms());
+        accumulator.add(assignment);
         
-        for (SchedulingResult result : results) {
-            double time = result.getTotalTime();
-            double cost = result.getCost();
-            
-            sumTime += time;
-            sumCost += cost;
-            sumLatency += result.getVm().getNetworkLatency();
-            
-            executionTimes.add(time);
-            costs.add(cost);
-            
-            if (result.getFinishTime() > maxFinishTime) {
-                maxFinishTime = result.getFinishTime();
-            }
-            
-            if (result.isDeadlineSatisfied()) deadlinesMet++;
-            if (result.isBudgetSatisfied()) budgetsMet++;
-            if (result.isQoSSatisfied()) qosSatisfied++;
+        schedulerMetrics.put(schedulerName, accumulator.toMetrics());
+        if (!schedulerOrder.contains(schedulerName)) {
+            schedulerOrder.add(schedulerName);
         }
         
-        metrics.totalExecutionTime = sumTime;
-        metrics.averageExecutionTime = sumTime / results.size();
-        metrics.totalCost = sumCost;
-        metrics.averageCost = sumCost / results.size();
-        metrics.averageLatency = sumLatency / results.size();
-        metrics.makespan = maxFinishTime;
-        
-        metrics.deadlinesMet = deadlinesMet;
-        metrics.deadlineMissRate = (results.size() - deadlinesMet) * 100.0 / results.size();
-        metrics.budgetsMet = budgetsMet;
-        metrics.budgetViolationRate = (results.size() - budgetsMet) * 100.0 / results.size();
-        metrics.qosSatisfied = qosSatisfied;
-        metrics.qosSatisfactionRate = qosSatisfied * 100.0 / results.size();
-        
-        // Calculate standard deviations
-        metrics.stdDevTime = calculateStdDev(executionTimes, metrics.averageExecutionTime);
-        metrics.stdDevCost = calculateStdDev(costs, metrics.averageCost);
-        
-        // Calculate throughput
-        metrics.throughput = results.size() / maxFinishTime;
-        
-        return metrics;
+        System.out.println("\nEvaluated: " + schedulerName);
     }
     
     /**
-     * Calculates standard deviation.
+     * Calculates performance metrics from scheduling results in a single pass.
+     * Load metrics cover only the VMs that appear in the results.
      */
-    private double calculateStdDev(List<Double> values, double mean) {
-        double sumSquaredDiff = 0;
-        for (double value : values) {
-            sumSquaredDiff += Math.pow(value - mean, 2);
+    private PerformanceMetrics calculateMetrics(List<SchedulingResult> results) {
+        return calculateMetrics(results, new MetricsAccumulator());
+    }
+    
+    private PerformanceMetrics calculateMetrics(List<SchedulingResult> results, MetricsAccumulator accumulator) {
+        for (SchedulingResult result : results) {
+            accumulator.add(result);
         }
-        return Math.sqrt(sumSquaredDiff / values.size());
+        return accumulator.toMetrics();
     }
     
     /**
@@ -171,6 +131,10 @@ public class PerformanceEvaluationModule {
             System.out.println("  Std Dev (Time): " + String.format("%.4f", m.stdDevTime) + " s");
             System.out.println("  Makespan: " + String.format("%.4f", m.makespan) + " s");
             System.out.println("  Average Latency: " + String.format("%.4f", m.averageLatency) + " s");
+            System.out.println("  Response Time p50/p90/p99/p99.9: " + String.format("%.4f / %.4f / %.4f / %.4f",
+                    m.p50ResponseTime, m.p90ResponseTime, m.p99ResponseTime, m.p999ResponseTime) + " s");
+            System.out.println("  Waiting Time p50/p90/p99/p99.9: " + String.format("%.4f / %.4f / %.4f / %.4f",
+                    m.p50WaitingTime, m.p90WaitingTime, m.p99WaitingTime, m.p999WaitingTime) + " s");
             System.out.println();
             
             System.out.println("Cost Metrics:");
@@ -191,6 +155,9 @@ public class PerformanceEvaluationModule {
             
             System.out.println("Efficiency Metrics:");
             System.out.println("  Throughput: " + String.format("%.4f", m.throughput) + " tasks/s");
+            System.out.println("  Resource Utilization: " + String.format("%.2f", m.resourceUtilization) + "%");
+            System.out.println("  Load Imbalance: " + String.format("%.4f", m.loadImbalance));
+            System.out.println("  Jain Fairness Index: " + String.format("%.4f", m.jainFairness));
         }
         
         System.out.println("\n" + "=".repeat(80));
@@ -263,15 +230,33 @@ public class PerformanceEvaluationModule {
      * Calculates metrics from results and returns as a Map for UI use.
      * @param results The scheduling results
      * @param tasks The original tasks (not used currently, for future extensions)
-     * @param vms The VMs (not used currently, for future extensions)
+     * @param vms The VMs; idle ones count towards utilization and balance
      * @return Map of metric names to values
      */
     public Map<String, Double> calculateMetrics(List<SchedulingResult> results,
                                                 List<?> tasks, List<?> vms) {
-        PerformanceMetrics pm = calculateMetrics(results);
+        MetricsAccumulator accumulator = new MetricsAccumulator();
+        if (vms != null) {
+            for (Object vm : vms) {
+                if (vm instanceof VirtualMachine) {
+                    accumulator.registerVm(((VirtualMachine) vm).getVmId(), ((VirtualMachine) vm).getNumberOfPes());
+                }
+            }
+        }
+        PerformanceMetrics pm = calculateMetrics(results, accumulator);
         return metricsToMap(pm);
     }
     
+    /**
+     * Calculates the metrics of one scheduler run and returns them as a Map
+     * for UI use. All VMs of the workload count towards the load metrics.
+     */
+    public Map<String, Double> calculateMetrics(Assignment assignment) {
+        MetricsAccumulator accumulator = new MetricsAccumulator(assignment.getVms());
+        accumulator.add(assignment);
+        return metricsToMap(accumulator.toMetrics());
+    }
+    
     /**
      * Converts PerformanceMetrics to Map<String, Double> for UI use.
      */
@@ -293,9 +278,18 @@ public class PerformanceEvaluationModule {
         map.put("qosSatisfied", (double) pm.qosSatisfied);
         map.put("qosSatisfactionRate", pm.qosSatisfactionRate);
         map.put("throughput", pm.throughput);
-        // Add resource utilization placeholder
-        map.put("resourceUtilization", 70.0); // Default placeholder
-        map.put("loadBalance", 0.8); // Default placeholder
+        map.put("p50ResponseTime", pm.p50ResponseTime);
+        map.put("p90ResponseTime", pm.p90ResponseTime);
+        map.put("p99ResponseTime", pm.p99ResponseTime);
+        map.put("p999ResponseTime", pm.p999ResponseTime);
+        map.put("p50WaitingTime", pm.p50WaitingTime);
+        map.put("p90WaitingTime", pm.p90WaitingTime);
+        map.put("p99WaitingTime", pm.p99WaitingTime);
+        map.put("p999WaitingTime", pm.p999WaitingTime);
+        map.put("resourceUtilization", pm.resourceUtilization);
+        map.put("loadBalance", pm.jainFairness);
+        map.put("loadImbalance", pm.loadImbalance);
+        map.put("jainFairness", pm.jainFairness);
         return map;
     }
     
@@ -327,6 +321,19 @@ public class PerformanceEvaluationModule {
         
         // Efficiency metrics
         public double throughput;
+        public double resourceUtilization;   // % of VM-time up to the makespan spent busy
+        public double loadImbalance;         // (max - min) / mean VM busy time
+        public double jainFairness;          // Jain's index over VM busy times
+        
+        // Latency percentiles (response = finish - arrival, waiting = start - arrival)
+        public double p50ResponseTime;
+        public double p90ResponseTime;
+        public double p99ResponseTime;
+        public double p999ResponseTime;
+        public double p50WaitingTime;
+        public double p90WaitingTime;
+        public double p99WaitingTime;
+        public double p999WaitingTime;
         
         @Override
         public String toString() {
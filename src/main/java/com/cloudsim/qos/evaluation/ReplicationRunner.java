@@ -0,0 +1,208 @@
+package com.cloudsim.qos.evaluation;
+
+import com.cloudsim.qos.config.InputConfigurationModule;
+import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.scheduler.*;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo replication runner.
+ *
+ * Runs {@link SimulationConfig#getNumberOfRuns()} independently seeded sample
+ * workloads through every scheduler and aggregates each metric of
+ * {@link PerformanceEvaluationModule#metricsToMap} into a
+ * {@link RunningStatistics} (mean, variance, 95% confidence interval).
+ *
+ * Within a replication all schedulers see the same workload, so differences
+ * between them are not masked by workload noise. Replications run in
+ * parallel on the fork-join pool; each one folds into its own accumulators,
+ * which are merged at the end.
+ */
+public class ReplicationRunner {
+
+    public static final List<String> DEFAULT_SCHEDULERS =
+            List.of("QoS-Aware", "FCFS", "Random", "Min-Min", "Max-Min", "Sufferage");
+
+    // Golden-ratio stride so consecutive replications get unrelated seeds
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final SimulationConfig config;
+    private final int numTasks;
+    private final int numVMs;
+    private long baseSeed = 42;
+    private boolean parallel = true;
+    private List<String> schedulers = DEFAULT_SCHEDULERS;
+
+    private Map<String, Map<String, RunningStatistics>> statistics = new LinkedHashMap<>();
+
+    public ReplicationRunner(SimulationConfig config, int numTasks, int numVMs) {
+        this.config = config;
+        this.numTasks = numTasks;
+        this.numVMs = numVMs;
+    }
+
+    /**
+     * Runs all replications.
+     * @return Scheduler name -> metric name -> statistics across replications
+     */
+    public Map<String, Map<String, RunningStatistics>> run() {
+        IntStream replications = IntStream.range(0, Math.max(1, config.getNumberOfRuns()));
+        if (parallel) {
+            replications = replications.parallel();
+        }
+
+        statistics = replications
+                .mapToObj(this::runReplication)
+                .collect(() -> new Aggregate(schedulers), Aggregate::add, Aggregate::merge)
+                .statistics;
+        return statistics;
+    }
+
+    /**
+     * Runs every scheduler once on the workload of one replication.
+     * @return Scheduler name -> metric map
+     */
+    private Map<String, Map<String, Double>> runReplication(int replication) {
+        long seed = replicationSeed(replication);
+
+        InputConfigurationModule configModule = new InputConfigurationModule();
+        configModule.generateSampleWorkload(numTasks, numVMs, seed);
+        List<CloudTask> tasks = configModule.getTasks();
+        List<VirtualMachine> vms = configModule.getVirtualMachines();
+
+        // One read-only workload shared by every scheduler of the replication
+        TaskTable workload = TaskTable.fromTasks(tasks);
+
+        PerformanceEvaluationModule evaluator = new PerformanceEvaluationModule();
+        Map<String, Map<String, Double>> metrics = new LinkedHashMap<>();
+        for (String name : schedulers) {
+            Assignment assignment = createScheduler(name, seed).schedule(workload, vms);
+            metrics.put(name, evaluator.calculateMetrics(assignment));
+        }
+        return metrics;
+    }
+
+    private TaskScheduler createScheduler(String name, long seed) {
+        switch (name) {
+            case "QoS-Aware":
+                return new QoSAwareScheduler(config);
+            case "FCFS":
+                return new FCFSScheduler();
+            case "Random":
+                return new RandomScheduler(seed);
+            case "Min-Min":
+                return new MinMinScheduler();
+            case "Max-Min":
+                return new MaxMinScheduler();
+            case "Sufferage":
+                return new SufferageScheduler();
+            case "Genetic":
+                return new GeneticScheduler(config, seed);
+            case "NSGA-II":
+                return new NsgaIIScheduler(config, seed);
+            default:
+                throw new IllegalArgumentException("Unknown scheduler: " + name);
+        }
+    }
+
+    /**
+     * Gets the workload seed of a replication.
+     */
+    public long replicationSeed(int replication) {
+        return baseSeed + replication * SEED_STRIDE;
+    }
+
+    /**
+     * Prints mean ± 95% confidence half-width of the headline metrics.
+     */
+    public void printSummary() {
+        String[] metrics = {"avgExecutionTime", "totalCost", "makespan", "deadlineMissRate", "qosSatisfactionRate"};
+
+        System.out.println("\n" + "=".repeat(130));
+        System.out.println("REPLICATION SUMMARY (" + config.getNumberOfRuns() + " runs, " +
+                numTasks + " tasks, " + numVMs + " VMs, mean ± 95% CI)");
+        System.out.println("=".repeat(130));
+        System.out.println(String.format("%-12s %22s %22s %22s %22s %22s",
+                "Scheduler", "Avg Time(s)", "Total Cost", "Makespan", "DL Miss%", "QoS Sat%"));
+        System.out.println("-".repeat(130));
+
+        for (Map.Entry<String, Map<String, RunningStatistics>> entry : statistics.entrySet()) {
+            StringBuilder row = new StringBuilder(String.format("%-12s", entry.getKey()));
+            for (String metric : metrics) {
+                RunningStatistics stats = entry.getValue().get(metric);
+                row.append(String.format(" %22s", stats == null ? "-"
+                        : String.format("%.4f ± %.4f", stats.getMean(), stats.getConfidenceHalfWidth())));
+            }
+            System.out.println(row);
+        }
+
+        System.out.println("=".repeat(130));
+    }
+
+    public Map<String, Map<String, RunningStatistics>> getStatistics() {
+        return statistics;
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    public void setBaseSeed(long baseSeed) {
+        this.baseSeed = baseSeed;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public List<String> getSchedulers() {
+        return schedulers;
+    }
+
+    public void setSchedulers(List<String> schedulers) {
+        this.schedulers = new ArrayList<>(schedulers);
+    }
+
+    /**
+     * Per-scheduler, per-metric accumulators for a subset of replications.
+     */
+    private static class Aggregate {
+        final Map<String, Map<String, RunningStatistics>> statistics = new LinkedHashMap<>();
+
+        Aggregate(List<String> schedulers) {
+            for (String name : schedulers) {
+                statistics.put(name, new LinkedHashMap<>());
+            }
+        }
+
+        void add(Map<String, Map<String, Double>> replication) {
+            for (Map.Entry<String, Map<String, Double>> scheduler : replication.entrySet()) {
+                Map<String, RunningStatistics> metrics = statistics.get(scheduler.getKey());
+                for (Map.Entry<String, Double> metric : scheduler.getValue().entrySet()) {
+                    metrics.computeIfAbsent(metric.getKey(), k -> new RunningStatistics())
+                            .add(metric.getValue());
+                }
+            }
+        }
+
+        void merge(Aggregate other) {
+            for (Map.Entry<String, Map<String, RunningStatistics>> scheduler : other.statistics.entrySet()) {
+                Map<String, RunningStatistics> metrics = statistics.get(scheduler.getKey());
+                for (Map.Entry<String, RunningStatistics> metric : scheduler.getValue().entrySet()) {
+                    metrics.computeIfAbsent(metric.getKey(), k -> new RunningStatistics())
+                            .merge(metric.getValue());
+                }
+            }
+        }
+    }
+}
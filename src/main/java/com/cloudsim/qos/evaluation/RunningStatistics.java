@@ -0,0 +1,120 @@
+package com.cloudsim.qos.evaluation;
+
+import org.apache.commons.math3.distribution.TDistribution;
+
+/**
+ * Single-pass summary statistics for a stream of values.
+ *
+ * Uses Welford's update for the mean and variance, so values can be added
+ * one at a time in constant memory without the cancellation error of the
+ * sum-of-squares formula. Two accumulators filled independently (e.g. on
+ * different threads) can be combined with {@link #merge}.
+ */
+public class RunningStatistics {
+
+    private long count;
+    private double mean;
+    private double m2;      // Sum of squared deviations from the mean
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds one value to the stream.
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Folds another accumulator into this one (Chan et al. pairwise update).
+     */
+    public void merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            sum = other.sum;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : mean;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Sample variance (divides by n - 1).
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    /**
+     * Population variance (divides by n).
+     */
+    public double getPopulationVariance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getPopulationStdDev() {
+        return Math.sqrt(getPopulationVariance());
+    }
+
+    public double getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Half-width of the 95% confidence interval for the mean, using the
+     * Student t distribution with n - 1 degrees of freedom.
+     */
+    public double getConfidenceHalfWidth() {
+        if (count < 2) {
+            return 0;
+        }
+        double t = new TDistribution(count - 1).inverseCumulativeProbability(0.975);
+        return t * getStdDev() / Math.sqrt(count);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.4f ± %.4f (n=%d)", getMean(), getConfidenceHalfWidth(), count);
+    }
+}
@@ -0,0 +1,184 @@
+package com.cloudsim.qos.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decisions of one scheduler run over a shared workload.
+ *
+ * The workload ({@link TaskTable} and VM list) is only read; everything a
+ * run decides is written here, in per-task columns indexed like the table:
+ * VM index, start and finish time, total time, cost and the deadline/budget
+ * flags. The order in which tasks were assigned is kept as well. Any number
+ * of runs, sequential or concurrent, can therefore share one workload
+ * without copying it.
+ */
+public class Assignment {
+
+    private final TaskTable tasks;
+    private final List<VirtualMachine> vms;
+
+    private final int[] vmIndex;            // [task] -> VM index, -1 while unassigned
+    private final double[] startTimes;
+    private final double[] finishTimes;
+    private final double[] totalTimes;      // execution time including latency
+    private final double[] costs;
+    private final long[] deadlineMetBits;
+    private final long[] budgetMetBits;
+    private final int[] sequence;           // task indices in assignment order
+    private int assignedCount;
+
+    // QoS weights of the run, applied to the result objects when set
+    private boolean scored;
+    private double alpha;
+    private double beta;
+
+    public Assignment(TaskTable tasks, List<VirtualMachine> vms) {
+        int n = tasks.size();
+        this.tasks = tasks;
+        this.vms = vms;
+        this.vmIndex = new int[n];
+        this.startTimes = new double[n];
+        this.finishTimes = new double[n];
+        this.totalTimes = new double[n];
+        this.costs = new double[n];
+        this.deadlineMetBits = new long[(n + 63) >>> 6];
+        this.budgetMetBits = new long[(n + 63) >>> 6];
+        this.sequence = new int[n];
+        Arrays.fill(vmIndex, -1);
+    }
+
+    /**
+     * Records the assignment of task t to VM v and derives its time, cost
+     * and constraint flags the same way as {@link SchedulingResult}.
+     */
+    public void record(int t, int v, double startTime, double finishTime) {
+        if (vmIndex[t] >= 0) {
+            throw new IllegalStateException("Task index " + t + " is already assigned");
+        }
+        VirtualMachine vm = vms.get(v);
+        long length = tasks.getTaskLength(t);
+        double totalTime = vm.calculateTotalTime(length);
+        double cost = vm.calculateExecutionCost(length);
+
+        vmIndex[t] = v;
+        startTimes[t] = startTime;
+        finishTimes[t] = finishTime;
+        totalTimes[t] = totalTime;
+        costs[t] = cost;
+        if (totalTime <= tasks.getDeadline(t)) {
+            deadlineMetBits[t >>> 6] |= 1L << t;
+        }
+        if (cost <= tasks.getBudget(t)) {
+            budgetMetBits[t >>> 6] |= 1L << t;
+        }
+        sequence[assignedCount++] = t;
+    }
+
+    /**
+     * Makes {@link #toResults} compute each result's QoS score with these weights.
+     */
+    public void setScoreWeights(double alpha, double beta) {
+        this.scored = true;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Creates result objects in assignment order. The given task objects
+     * must be in table order; they are referenced, not modified.
+     */
+    public List<SchedulingResult> toResults(List<CloudTask> taskObjects) {
+        List<SchedulingResult> results = new ArrayList<>(assignedCount);
+        for (int k = 0; k < assignedCount; k++) {
+            int t = sequence[k];
+            SchedulingResult result = new SchedulingResult(taskObjects.get(t), vms.get(vmIndex[t]));
+            result.setStartTime(startTimes[t]);
+            result.setFinishTime(finishTimes[t]);
+            if (scored) {
+                result.calculateQoSScore(alpha, beta);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Creates result objects in assignment order, with task objects
+     * materialized from the table.
+     */
+    public List<SchedulingResult> toResults() {
+        return toResults(tasks.toTaskList());
+    }
+
+    public TaskTable getTasks() {
+        return tasks;
+    }
+
+    public List<VirtualMachine> getVms() {
+        return vms;
+    }
+
+    public int getAssignedCount() {
+        return assignedCount;
+    }
+
+    /**
+     * Gets the task index assigned k-th.
+     */
+    public int getTaskAt(int k) {
+        return sequence[k];
+    }
+
+    public boolean isAssigned(int t) {
+        return vmIndex[t] >= 0;
+    }
+
+    public int getVmIndex(int t) {
+        return vmIndex[t];
+    }
+
+    public VirtualMachine getVm(int t) {
+        return vms.get(vmIndex[t]);
+    }
+
+    public int getAssignedVmId(int t) {
+        return vms.get(vmIndex[t]).getVmId();
+    }
+
+    public double getStartTime(int t) {
+        return startTimes[t];
+    }
+
+    public double getFinishTime(int t) {
+        return finishTimes[t];
+    }
+
+    public double getTotalTime(int t) {
+        return totalTimes[t];
+    }
+
+    public double getCost(int t) {
+        return costs[t];
+    }
+
+    public boolean isDeadlineMet(int t) {
+        return (deadlineMetBits[t >>> 6] & (1L << t)) != 0;
+    }
+
+    public boolean isBudgetMet(int t) {
+        return (budgetMetBits[t >>> 6] & (1L << t)) != 0;
+    }
+
+    public boolean isQoSMet(int t) {
+        return isDeadlineMet(t) && isBudgetMet(t);
+    }
+
+    /**
+     * Approximate heap footprint of the assignment's arrays in bytes.
+     */
+    public long getMemoryFootprint() {
+        return (4L + 8 + 8 + 8 + 8 + 4) * vmIndex.length + 16L * deadlineMetBits.length;
+    }
+}
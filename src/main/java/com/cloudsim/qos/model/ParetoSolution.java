@@ -0,0 +1,45 @@
+package com.cloudsim.qos.model;
+
+/**
+ * One schedule on a Pareto front: a complete task-to-VM plan and its
+ * makespan, total cost and number of deadline misses.
+ * No other schedule on the same front is at least as good in all three.
+ */
+public final class ParetoSolution {
+    private final int[] plan;           // [task table index] -> VM index
+    private final double makespan;
+    private final double totalCost;
+    private final int deadlineMisses;
+    
+    public ParetoSolution(int[] plan, double makespan, double totalCost, int deadlineMisses) {
+        this.plan = plan.clone();
+        this.makespan = makespan;
+        this.totalCost = totalCost;
+        this.deadlineMisses = deadlineMisses;
+    }
+    
+    /**
+     * VM index of every task, by task table index.
+     */
+    public int[] getPlan() {
+        return plan.clone();
+    }
+    
+    public double getMakespan() {
+        return makespan;
+    }
+    
+    public double getTotalCost() {
+        return totalCost;
+    }
+    
+    public int getDeadlineMisses() {
+        return deadlineMisses;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ParetoSolution[makespan=%.2f, cost=$%.4f, deadlineMisses=%d]",
+                makespan, totalCost, deadlineMisses);
+    }
+}
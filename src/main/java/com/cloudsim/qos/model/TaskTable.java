@@ -0,0 +1,234 @@
+package com.cloudsim.qos.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar (structure-of-arrays) storage for tasks.
+ *
+ * Each task field (id, length, deadline, budget, priority, arrival) lives in
+ * its own primitive array, indexed by the task's position in the table. A
+ * table holds no per-task objects, so large workloads cost a fixed number of
+ * bytes per task and scans over one column read contiguous memory.
+ *
+ * Tables are filled through a {@link Builder} and have no mutators, so a
+ * table never changes after loading. Schedulers only read the table and
+ * write their decisions to a separate {@link Assignment}, so one table can
+ * be shared by any number of runs. Column getters such as
+ * {@link #getLengths()} return the backing arrays without copying, for the
+ * scan loops of the schedulers and vectorized scoring; they are read-only,
+ * only indices below {@link #size()} are valid, and writing to them would
+ * change the workload of every run sharing the table.
+ */
+public class TaskTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int size;
+
+    private final int[] taskIds;
+    private final long[] lengths;
+    private final double[] deadlines;
+    private final double[] budgets;
+    private final int[] priorities;
+    private final double[] arrivalTimes;
+
+    /**
+     * Creates an empty table.
+     */
+    public TaskTable() {
+        this(new Builder(1));
+    }
+
+    private TaskTable(Builder builder) {
+        this.size = builder.size;
+        this.taskIds = builder.taskIds;
+        this.lengths = builder.lengths;
+        this.deadlines = builder.deadlines;
+        this.budgets = builder.budgets;
+        this.priorities = builder.priorities;
+        this.arrivalTimes = builder.arrivalTimes;
+    }
+
+    /**
+     * Builds a table from task objects, keeping their order.
+     * Only the scheduling inputs are copied.
+     */
+    public static TaskTable fromTasks(List<CloudTask> tasks) {
+        Builder builder = new Builder(tasks.size());
+        for (CloudTask task : tasks) {
+            builder.add(task.getTaskId(), task.getTaskLength(), task.getDeadline(),
+                    task.getBudget(), task.getPriority(), task.getArrivalTime());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a CloudTask for row i.
+     */
+    public CloudTask getTask(int i) {
+        CloudTask task = new CloudTask(taskIds[i], lengths[i], deadlines[i], budgets[i], priorities[i]);
+        task.setArrivalTime(arrivalTimes[i]);
+        return task;
+    }
+
+    /**
+     * Materializes every row as a CloudTask.
+     */
+    public List<CloudTask> toTaskList() {
+        List<CloudTask> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(getTask(i));
+        }
+        return tasks;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getTaskId(int i) {
+        return taskIds[i];
+    }
+
+    public long getTaskLength(int i) {
+        return lengths[i];
+    }
+
+    public double getDeadline(int i) {
+        return deadlines[i];
+    }
+
+    public double getBudget(int i) {
+        return budgets[i];
+    }
+
+    public int getPriority(int i) {
+        return priorities[i];
+    }
+
+    public double getArrivalTime(int i) {
+        return arrivalTimes[i];
+    }
+
+    // Backing columns: read-only, valid below size()
+
+    public int[] getTaskIds() {
+        return taskIds;
+    }
+
+    public long[] getLengths() {
+        return lengths;
+    }
+
+    public double[] getDeadlines() {
+        return deadlines;
+    }
+
+    public double[] getBudgets() {
+        return budgets;
+    }
+
+    public int[] getPriorities() {
+        return priorities;
+    }
+
+    public double[] getArrivalTimes() {
+        return arrivalTimes;
+    }
+
+    /**
+     * Approximate heap footprint of the table's arrays in bytes.
+     */
+    public long getMemoryFootprint() {
+        return (4L + 8 + 8 + 8 + 4 + 8) * taskIds.length;
+    }
+
+    /**
+     * Appends tasks to growing columns and hands them to a table once.
+     * The arrays are not copied by {@link #build()}, so the builder cannot
+     * be used afterwards.
+     */
+    public static final class Builder {
+
+        private int size;
+        private boolean built;
+
+        private int[] taskIds;
+        private long[] lengths;
+        private double[] deadlines;
+        private double[] budgets;
+        private int[] priorities;
+        private double[] arrivalTimes;
+
+        public Builder() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public Builder(int capacity) {
+            allocate(Math.max(1, capacity));
+        }
+
+        /**
+         * Appends a task. The signature matches the streaming record consumers of
+         * the workload loaders, so a table can be filled straight from a file.
+         * @return Index of the new task
+         */
+        public int add(int taskId, long taskLength, double deadline, double budget,
+                       int priority, double arrivalTime) {
+            if (built) {
+                throw new IllegalStateException("Task table already built");
+            }
+            if (size == taskIds.length) {
+                grow();
+            }
+            int i = size++;
+            taskIds[i] = taskId;
+            lengths[i] = taskLength;
+            deadlines[i] = deadline;
+            budgets[i] = budget;
+            priorities[i] = priority;
+            arrivalTimes[i] = arrivalTime;
+            return i;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Creates the table over the columns filled so far.
+         */
+        public TaskTable build() {
+            if (built) {
+                throw new IllegalStateException("Task table already built");
+            }
+            built = true;
+            return new TaskTable(this);
+        }
+
+        private void allocate(int capacity) {
+            taskIds = new int[capacity];
+            lengths = new long[capacity];
+            deadlines = new double[capacity];
+            budgets = new double[capacity];
+            priorities = new int[capacity];
+            arrivalTimes = new double[capacity];
+        }
+
+        private void grow() {
+            int capacity = taskIds.length + (taskIds.length >> 1) + 1;
+            taskIds = Arrays.copyOf(taskIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            budgets = Arrays.copyOf(budgets, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        }
+    }
+}
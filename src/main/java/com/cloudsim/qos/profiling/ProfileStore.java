@@ -0,0 +1,148 @@
+package com.cloudsim.qos.profiling;
+
+/**
+ * Flat, primitive storage for task-VM profile data.
+ *
+ * QoS scores live in one contiguous double[] and deadline/budget feasibility
+ * in two bitsets backed by long[] words, instead of jagged [task][vm] arrays.
+ * Cells are laid out either row-major (all VMs of a task are adjacent, suited
+ * to per-task scans) or column-major (all tasks of a VM are adjacent, suited
+ * to per-VM scans).
+ *
+ * Writers that fill whole 64-cell words (see {@link #setFeasibilityWord})
+ * never share a word, so words can be filled concurrently.
+ */
+public class ProfileStore {
+
+    /**
+     * Memory layout of the flat arrays.
+     */
+    public enum Layout {
+        ROW_MAJOR,
+        COLUMN_MAJOR
+    }
+
+    private final int numTasks;
+    private final int numVMs;
+    private final Layout layout;
+
+    private final double[] qosScores;     // [index(task, vm)] -> QoS score
+    private final long[] deadlineBits;    // bit index(task, vm) -> can meet deadline
+    private final long[] budgetBits;      // bit index(task, vm) -> can meet budget
+
+    public ProfileStore(int numTasks, int numVMs, Layout layout) {
+        long cells = (long) numTasks * numVMs;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Profile too large for a flat store: " +
+                    numTasks + " tasks x " + numVMs + " VMs");
+        }
+
+        this.numTasks = numTasks;
+        this.numVMs = numVMs;
+        this.layout = layout;
+        this.qosScores = new double[(int) cells];
+        this.deadlineBits = new long[getWordCount()];
+        this.budgetBits = new long[getWordCount()];
+    }
+
+    /**
+     * Maps a task-VM pair to its flat cell index.
+     */
+    public int index(int taskIndex, int vmIndex) {
+        return layout == Layout.ROW_MAJOR
+                ? taskIndex * numVMs + vmIndex
+                : vmIndex * numTasks + taskIndex;
+    }
+
+    /**
+     * Gets the task index of a flat cell.
+     */
+    public int taskOf(int cell) {
+        return layout == Layout.ROW_MAJOR ? cell / numVMs : cell % numTasks;
+    }
+
+    /**
+     * Gets the VM index of a flat cell.
+     */
+    public int vmOf(int cell) {
+        return layout == Layout.ROW_MAJOR ? cell % numVMs : cell / numTasks;
+    }
+
+    public double getQoSScore(int taskIndex, int vmIndex) {
+        return qosScores[index(taskIndex, vmIndex)];
+    }
+
+    public double getQoSScoreAt(int cell) {
+        return qosScores[cell];
+    }
+
+    public void setQoSScoreAt(int cell, double score) {
+        qosScores[cell] = score;
+    }
+
+    /**
+     * Gets the backing score array, for kernels that fill or scan a whole
+     * row at once.
+     */
+    double[] qosScores() {
+        return qosScores;
+    }
+
+    public boolean canMeetDeadline(int taskIndex, int vmIndex) {
+        return isSet(deadlineBits, index(taskIndex, vmIndex));
+    }
+
+    public boolean canMeetBudget(int taskIndex, int vmIndex) {
+        return isSet(budgetBits, index(taskIndex, vmIndex));
+    }
+
+    public boolean canMeetDeadlineAt(int cell) {
+        return isSet(deadlineBits, cell);
+    }
+
+    public boolean canMeetBudgetAt(int cell) {
+        return isSet(budgetBits, cell);
+    }
+
+    /**
+     * Stores the feasibility bits of cells [64 * word, 64 * word + 63].
+     */
+    public void setFeasibilityWord(int word, long deadlineWord, long budgetWord) {
+        deadlineBits[word] = deadlineWord;
+        budgetBits[word] = budgetWord;
+    }
+
+    private static boolean isSet(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public int getCellCount() {
+        return qosScores.length;
+    }
+
+    /**
+     * Gets the number of 64-cell feasibility words.
+     */
+    public int getWordCount() {
+        return (qosScores.length + 63) >>> 6;
+    }
+
+    public int getNumTasks() {
+        return numTasks;
+    }
+
+    public int getNumVMs() {
+        return numVMs;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Approximate heap footprint of the store's arrays in bytes.
+     */
+    public long getMemoryFootprint() {
+        return 8L * qosScores.length + 16L * deadlineBits.length;
+    }
+}
@@ -1,9 +1,13 @@
 package com.cloudsim.qos.profiling;
 
 import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Module 3: Task Profiling Module
@@ -11,24 +15,70 @@ import java.util.*;
  * This module analyzes tasks and estimates their execution requirements
  * on different virtual machines. It calculates execution time, cost,
  * and creates a profile matrix for scheduling decisions.
+ * 
+ * QoS scores and feasibility flags are kept in a flat {@link ProfileStore};
+ * execution time, total time and cost are derived on demand from primitive
+ * per-task and per-VM vectors instead of being stored per cell.
+ * 
+ * In parallel mode, the store is filled in 64-cell blocks on the common
+ * fork-join pool and the normalization maxima are reduced in the same pass.
+ * 
+ * In lazy mode, no store is allocated. A task's row is computed only when
+ * it is first queried, and the normalization maxima are derived from the
+ * longest task and the per-VM speed, latency and price, so memory scales
+ * with the number of VMs instead of tasks × VMs.
+ * 
+ * In vectorized mode, QoS scores are computed for one task across all VMs
+ * in SIMD lanes with the JDK Vector API (see {@link VectorScoring}). It
+ * applies to row-major and lazy profiles and needs the JVM to be started
+ * with --add-modules jdk.incubator.vector; otherwise the scalar code is
+ * used. Both paths give identical scores.
  */
 public class TaskProfilingModule {
     
-    private List<CloudTask> tasks;
+    private static final Logger logger = LoggerFactory.getLogger(TaskProfilingModule.class);
+    
+    // Vector API present at runtime and wider than one double
+    private static final boolean VECTOR_SUPPORTED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector").isPresent() && VectorScoring.isUseful();
+    private static volatile boolean vectorWarningLogged;
+    
+    private TaskTable tasks;
     private List<VirtualMachine> vms;
     
-    // Profile matrices
-    private double[][] executionTimeMatrix;   // [task][vm] -> execution time
-    private double[][] totalTimeMatrix;       // [task][vm] -> total time (with latency)
-    private double[][] executionCostMatrix;   // [task][vm] -> execution cost
-    private double[][] qosScoreMatrix;        // [task][vm] -> QoS score
+    // Per-task vectors; deadlines, budgets and priorities are the table's own columns
+    private double[] taskLengths;
+    private double[] deadlines;
+    private double[] budgets;
+    private int[] priorities;
+    
+    // Per-VM vectors
+    private double[] vmMips;
+    private double[] vmLatencies;
+    private double[] vmCostsPerSecond;
+    
+    // QoS scores and task-VM feasibility
+    private ProfileStore store;
+    private ProfileStore.Layout layout = ProfileStore.Layout.ROW_MAJOR;
+    
+    // Normalization maxima, collected while profiling
+    private double maxTime = 1;
+    private double maxCost = 1;
+    
+    private boolean parallel;
+    private boolean vectorized;
     
-    // Task-VM feasibility
-    private boolean[][] deadlineFeasible;     // [task][vm] -> can meet deadline
-    private boolean[][] budgetFeasible;       // [task][vm] -> can meet budget
+    // Lazy mode: only the row of the most recently queried task is kept
+    private boolean lazy;
+    private double alpha;
+    private double beta;
+    private int currentRow = -1;
+    private double[] rowScores;
+    private boolean[] rowDeadlineFeasible;
+    private boolean[] rowBudgetFeasible;
     
     public TaskProfilingModule() {
-        this.tasks = new ArrayList<>();
+        this.tasks = new TaskTable();
         this.vms = new ArrayList<>();
     }
     
@@ -48,63 +98,153 @@ public class TaskProfilingModule {
      * @param vms List of available VMs
      */
     public void initialize(List<CloudTask> tasks, List<VirtualMachine> vms) {
-        this.tasks = new ArrayList<>(tasks);
+        initialize(TaskTable.fromTasks(tasks), vms);
+    }
+    
+    /**
+     * Initializes the profiling module with a columnar task table. The
+     * deadline, budget and priority columns are read in place, not copied.
+     * @param tasks Table of tasks to profile
+     * @param vms List of available VMs
+     */
+    public void initialize(TaskTable tasks, List<VirtualMachine> vms) {
+        this.tasks = tasks;
         this.vms = new ArrayList<>(vms);
         
         int numTasks = tasks.size();
         int numVMs = vms.size();
         
-        // Initialize matrices
-        executionTimeMatrix = new double[numTasks][numVMs];
-        totalTimeMatrix = new double[numTasks][numVMs];
-        executionCostMatrix = new double[numTasks][numVMs];
-        qosScoreMatrix = new double[numTasks][numVMs];
-        deadlineFeasible = new boolean[numTasks][numVMs];
-        budgetFeasible = new boolean[numTasks][numVMs];
+        long[] lengths = tasks.getLengths();
+        taskLengths = new double[numTasks];
+        for (int t = 0; t < numTasks; t++) {
+            taskLengths[t] = lengths[t];
+        }
+        deadlines = tasks.getDeadlines();
+        budgets = tasks.getBudgets();
+        priorities = tasks.getPriorities();
+        
+        vmMips = new double[numVMs];
+        vmLatencies = new double[numVMs];
+        vmCostsPerSecond = new double[numVMs];
+        for (int v = 0; v < numVMs; v++) {
+            VirtualMachine vm = vms.get(v);
+            vmMips[v] = vm.getMips();
+            vmLatencies[v] = vm.getNetworkLatency();
+            vmCostsPerSecond[v] = vm.getCostPerSecond();
+        }
         
-        System.out.println("Task Profiling Module initialized with " + 
-                numTasks + " tasks and " + numVMs + " VMs.");
+        maxTime = 1;
+        maxCost = 1;
+        currentRow = -1;
+        
+        if (lazy) {
+            store = null;
+            rowScores = new double[numVMs];
+            rowDeadlineFeasible = new boolean[numVMs];
+            rowBudgetFeasible = new boolean[numVMs];
+            
+            logger.info("Task Profiling Module initialized with {} tasks and {} VMs (lazy rows).", numTasks, numVMs);
+            return;
+        }
+        
+        // Initialize store
+        store = new ProfileStore(numTasks, numVMs, layout);
+        
+        if (logger.isInfoEnabled()) {
+            logger.info("Task Profiling Module initialized with {} tasks and {} VMs ({} MB {} store).",
+                    numTasks, numVMs, String.format("%.1f", store.getMemoryFootprint() / (1024.0 * 1024.0)),
+                    layout.name().toLowerCase().replace('_', '-'));
+        }
     }
     
     /**
      * Performs complete profiling of all task-VM combinations.
      */
     public void profileAllTasks() {
-        System.out.println("\nProfiling all task-VM combinations...");
-        
-        for (int t = 0; t < tasks.size(); t++) {
-            CloudTask task = tasks.get(t);
-            
-            for (int v = 0; v < vms.size(); v++) {
-                VirtualMachine vm = vms.get(v);
-                profileTaskOnVM(t, task, v, vm);
-            }
+        if (lazy) {
+            logger.debug("Lazy profiling: task rows are computed on demand.");
+            computeAnalyticMaxima();
+            return;
         }
         
-        System.out.println("Profiling complete.");
+        logger.debug("Profiling all task-VM combinations{}...", parallel ? " (parallel)" : "");
+        
+        double[] maxima = words().collect(() -> new double[2],
+                this::profileWord,
+                (a, b) -> {
+                    a[0] = Math.max(a[0], b[0]);
+                    a[1] = Math.max(a[1], b[1]);
+                });
+        
+        maxTime = maxima[0] > 0 ? maxima[0] : 1;
+        maxCost = maxima[1] > 0 ? maxima[1] : 1;
+        
+        logger.debug("Profiling complete.");
     }
     
     /**
-     * Profiles a single task on a single VM.
+     * Derives the normalization maxima without visiting every pair.
+     * For each VM, total time and cost grow with task length, so the maxima
+     * are reached by the longest task; this costs O(tasks + VMs) and gives
+     * the same values as a full scan.
      */
-    private void profileTaskOnVM(int taskIndex, CloudTask task, int vmIndex, VirtualMachine vm) {
-        // Calculate execution time: Task Length / VM MIPS
-        double executionTime = (double) task.getTaskLength() / vm.getMips();
-        executionTimeMatrix[taskIndex][vmIndex] = executionTime;
+    private void computeAnalyticMaxima() {
+        double maxLength = 0;
+        for (double length : taskLengths) {
+            maxLength = Math.max(maxLength, length);
+        }
         
-        // Calculate total time: Execution Time + Network Latency
-        double totalTime = executionTime + vm.getNetworkLatency();
-        totalTimeMatrix[taskIndex][vmIndex] = totalTime;
+        double time = 0, cost = 0;
+        if (taskLengths.length > 0) {
+            for (int v = 0; v < vmMips.length; v++) {
+                double executionTime = maxLength / vmMips[v];
+                time = Math.max(time, executionTime + vmLatencies[v]);
+                cost = Math.max(cost, executionTime * vmCostsPerSecond[v]);
+            }
+        }
         
-        // Calculate execution cost: Execution Time × Cost per Second
-        double executionCost = executionTime * vm.getCostPerSecond();
-        executionCostMatrix[taskIndex][vmIndex] = executionCost;
+        maxTime = time > 0 ? time : 1;
+        maxCost = cost > 0 ? cost : 1;
+        currentRow = -1;
+    }
+    
+    /**
+     * Returns the 64-cell block indices of the store, parallel when
+     * parallel mode is enabled.
+     */
+    private IntStream words() {
+        IntStream words = IntStream.range(0, store.getWordCount());
+        return parallel ? words.parallel() : words;
+    }
+    
+    /**
+     * Profiles the task-VM pairs of one 64-cell block.
+     * @param maxima Running maxima of total time and cost, updated in place
+     */
+    private void profileWord(double[] maxima, int word) {
+        int start = word << 6;
+        int end = Math.min(start + 64, store.getCellCount());
+        long deadlineWord = 0, budgetWord = 0;
         
-        // Check deadline feasibility
-        deadlineFeasible[taskIndex][vmIndex] = totalTime <= task.getDeadline();
+        for (int cell = start; cell < end; cell++) {
+            int t = store.taskOf(cell);
+            int v = store.vmOf(cell);
+            double totalTime = getTotalTime(t, v);
+            double executionCost = getExecutionCost(t, v);
+            
+            // Check deadline and budget feasibility
+            if (totalTime <= deadlines[t]) {
+                deadlineWord |= 1L << cell;
+            }
+            if (executionCost <= budgets[t]) {
+                budgetWord |= 1L << cell;
+            }
+            
+            maxima[0] = Math.max(maxima[0], totalTime);
+            maxima[1] = Math.max(maxima[1], executionCost);
+        }
         
-        // Check budget feasibility
-        budgetFeasible[taskIndex][vmIndex] = executionCost <= task.getBudget();
+        store.setFeasibilityWord(word, deadlineWord, budgetWord);
     }
     
     /**
@@ -113,116 +253,266 @@ public class TaskProfilingModule {
      * @param beta Weight for cost (0-1)
      */
     public void calculateQoSScores(double alpha, double beta) {
-        System.out.println("Calculating QoS scores (alpha=" + alpha + ", beta=" + beta + ")...");
+        this.alpha = alpha;
+        this.beta = beta;
         
-        // Find max values for normalization
-        double maxTime = findMaxTime();
-        double maxCost = findMaxCost();
+        if (lazy) {
+            currentRow = -1;
+            return;
+        }
         
-        for (int t = 0; t < tasks.size(); t++) {
-            CloudTask task = tasks.get(t);
+        logger.debug("Calculating QoS scores (alpha={}, beta={}){}...", alpha, beta,
+                isRowVectorized() ? " (vectorized)" : "");
+        
+        if (isRowVectorized()) {
+            // Rows are contiguous in a row-major store, one task per kernel call
+            IntStream rows = IntStream.range(0, tasks.size());
+            (parallel ? rows.parallel() : rows).forEach(t -> VectorScoring.scoreRow(
+                    taskLengths[t], deadlines[t], budgets[t], priorityModifier(t), alpha, beta, maxTime, maxCost,
+                    vmMips, vmLatencies, vmCostsPerSecond, store.qosScores(), t * vmMips.length, null, null));
+            return;
+        }
+        
+        words().forEach(word -> scoreWord(word, alpha, beta));
+    }
+    
+    /**
+     * Checks whether a task's scores form one contiguous row that the
+     * vector kernels can work on.
+     */
+    private boolean isRowVectorized() {
+        return vectorized && (lazy || layout == ProfileStore.Layout.ROW_MAJOR);
+    }
+    
+    /**
+     * Computes feasibility and QoS scores of one task on every VM into the
+     * lazy row buffers, unless that row is already current.
+     */
+    private void ensureRow(int taskIndex) {
+        if (taskIndex == currentRow) {
+            return;
+        }
+        
+        if (vectorized) {
+            VectorScoring.scoreRow(taskLengths[taskIndex], deadlines[taskIndex], budgets[taskIndex],
+                    priorityModifier(taskIndex), alpha, beta, maxTime, maxCost,
+                    vmMips, vmLatencies, vmCostsPerSecond, rowScores, 0, rowDeadlineFeasible, rowBudgetFeasible);
+            currentRow = taskIndex;
+            return;
+        }
+        
+        for (int v = 0; v < rowScores.length; v++) {
+            double totalTime = getTotalTime(taskIndex, v);
+            double executionCost = getExecutionCost(taskIndex, v);
+            boolean deadlineOk = totalTime <= deadlines[taskIndex];
+            boolean budgetOk = executionCost <= budgets[taskIndex];
             
-            for (int v = 0; v < vms.size(); v++) {
-                // Normalize values
-                double normalizedTime = totalTimeMatrix[t][v] / maxTime;
-                double normalizedCost = executionCostMatrix[t][v] / maxCost;
-                
-                // Calculate base QoS score (lower is better)
-                double qosScore = alpha * normalizedTime + beta * normalizedCost;
-                
-                // Add penalties for constraint violations
-                if (!deadlineFeasible[t][v]) {
-                    double violation = (totalTimeMatrix[t][v] - task.getDeadline()) / task.getDeadline();
-                    qosScore += violation * 10;  // Heavy penalty
-                }
-                
-                if (!budgetFeasible[t][v]) {
-                    double violation = (executionCostMatrix[t][v] - task.getBudget()) / task.getBudget();
-                    qosScore += violation * 10;  // Heavy penalty
-                }
-                
-                // Consider task priority (higher priority = lower score modifier)
-                double priorityModifier = (11 - task.getPriority()) / 10.0;
-                qosScore *= priorityModifier;
-                
-                qosScoreMatrix[t][v] = qosScore;
-            }
+            rowDeadlineFeasible[v] = deadlineOk;
+            rowBudgetFeasible[v] = budgetOk;
+            rowScores[v] = score(taskIndex, totalTime, executionCost, deadlineOk, budgetOk, alpha, beta);
         }
+        currentRow = taskIndex;
     }
     
     /**
-     * Finds the maximum total time in the matrix.
+     * Calculates QoS scores for the task-VM pairs of one 64-cell block.
      */
-    private double findMaxTime() {
-        double max = 0;
-        for (double[] row : totalTimeMatrix) {
-            for (double time : row) {
-                max = Math.max(max, time);
-            }
+    private void scoreWord(int word, double alpha, double beta) {
+        int start = word << 6;
+        int end = Math.min(start + 64, store.getCellCount());
+        
+        for (int cell = start; cell < end; cell++) {
+            int t = store.taskOf(cell);
+            int v = store.vmOf(cell);
+            double totalTime = getTotalTime(t, v);
+            double executionCost = getExecutionCost(t, v);
+            
+            double qosScore = score(t, totalTime, executionCost,
+                    store.canMeetDeadlineAt(cell), store.canMeetBudgetAt(cell), alpha, beta);
+            store.setQoSScoreAt(cell, qosScore);
         }
-        return max > 0 ? max : 1;
     }
     
     /**
-     * Finds the maximum cost in the matrix.
+     * Calculates the QoS score of one task-VM pair (lower is better).
      */
-    private double findMaxCost() {
-        double max = 0;
-        for (double[] row : executionCostMatrix) {
-            for (double cost : row) {
-                max = Math.max(max, cost);
-            }
+    private double score(int t, double totalTime, double executionCost,
+                         boolean deadlineOk, boolean budgetOk, double alpha, double beta) {
+        // Normalize values
+        double normalizedTime = totalTime / maxTime;
+        double normalizedCost = executionCost / maxCost;
+        
+        // Calculate base QoS score (lower is better)
+        double qosScore = alpha * normalizedTime + beta * normalizedCost;
+        
+        // Add penalties for constraint violations
+        if (!deadlineOk) {
+            double violation = (totalTime - deadlines[t]) / deadlines[t];
+            qosScore += violation * 10;  // Heavy penalty
+        }
+        
+        if (!budgetOk) {
+            double violation = (executionCost - budgets[t]) / budgets[t];
+            qosScore += violation * 10;  // Heavy penalty
+        }
+        
+        return qosScore * priorityModifier(t);
+    }
+    
+    /**
+     * Consider task priority (higher priority = lower score modifier).
+     */
+    private double priorityModifier(int t) {
+        return (11 - priorities[t]) / 10.0;
+    }
+    
+    /**
+     * Checks whether the JDK Vector API can be used for scoring, i.e. the
+     * jdk.incubator.vector module is loaded and the hardware has SIMD lanes
+     * for doubles.
+     */
+    public static boolean isVectorScoringSupported() {
+        return VECTOR_SUPPORTED;
+    }
+    
+    /**
+     * Enables or disables vectorized scoring. Falls back to scalar scoring,
+     * with a one-time warning, when the Vector API is not supported.
+     */
+    public void setVectorized(boolean vectorized) {
+        if (vectorized && !VECTOR_SUPPORTED && !vectorWarningLogged) {
+            vectorWarningLogged = true;
+            logger.warn("Vector API not available (start the JVM with --add-modules jdk.incubator.vector); " +
+                    "using scalar QoS scoring.");
         }
-        return max > 0 ? max : 1;
+        this.vectorized = vectorized && VECTOR_SUPPORTED;
+    }
+    
+    /**
+     * Checks whether vectorized scoring is in effect.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+    
+    /**
+     * Enables or disables lazy row profiling. Takes effect on the next
+     * call to {@link #initialize}.
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+    
+    public boolean isLazy() {
+        return lazy;
+    }
+    
+    /**
+     * Enables or disables parallel row profiling on the fork-join pool.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+    
+    public boolean isParallel() {
+        return parallel;
+    }
+    
+    /**
+     * Sets the memory layout of the profile store. Takes effect on the
+     * next call to {@link #initialize}.
+     */
+    public void setLayout(ProfileStore.Layout layout) {
+        this.layout = layout;
+    }
+    
+    public ProfileStore.Layout getLayout() {
+        return layout;
+    }
+    
+    /**
+     * Gets the underlying profile store, or null in lazy mode.
+     */
+    public ProfileStore getStore() {
+        return store;
+    }
+    
+    /**
+     * Gets the maximum total time found during profiling.
+     */
+    public double getMaxTime() {
+        return maxTime;
+    }
+    
+    /**
+     * Gets the maximum execution cost found during profiling.
+     */
+    public double getMaxCost() {
+        return maxCost;
     }
     
     /**
      * Gets the estimated execution time for a task-VM pair.
      */
     public double getExecutionTime(int taskIndex, int vmIndex) {
-        return executionTimeMatrix[taskIndex][vmIndex];
+        // Execution time: Task Length / VM MIPS
+        return taskLengths[taskIndex] / vmMips[vmIndex];
     }
     
     /**
      * Gets the total time (including latency) for a task-VM pair.
      */
     public double getTotalTime(int taskIndex, int vmIndex) {
-        return totalTimeMatrix[taskIndex][vmIndex];
+        // Total time: Execution Time + Network Latency
+        return getExecutionTime(taskIndex, vmIndex) + vmLatencies[vmIndex];
     }
     
     /**
      * Gets the execution cost for a task-VM pair.
      */
     public double getExecutionCost(int taskIndex, int vmIndex) {
-        return executionCostMatrix[taskIndex][vmIndex];
+        // Execution cost: Execution Time × Cost per Second
+        return getExecutionTime(taskIndex, vmIndex) * vmCostsPerSecond[vmIndex];
     }
     
     /**
      * Gets the QoS score for a task-VM pair.
      */
     public double getQoSScore(int taskIndex, int vmIndex) {
-        return qosScoreMatrix[taskIndex][vmIndex];
+        if (lazy) {
+            ensureRow(taskIndex);
+            return rowScores[vmIndex];
+        }
+        return store.getQoSScore(taskIndex, vmIndex);
     }
     
     /**
      * Checks if a task can meet its deadline on a VM.
      */
     public boolean canMeetDeadline(int taskIndex, int vmIndex) {
-        return deadlineFeasible[taskIndex][vmIndex];
+        if (lazy) {
+            ensureRow(taskIndex);
+            return rowDeadlineFeasible[vmIndex];
+        }
+        return store.canMeetDeadline(taskIndex, vmIndex);
     }
     
     /**
      * Checks if a task can meet its budget on a VM.
      */
     public boolean canMeetBudget(int taskIndex, int vmIndex) {
-        return budgetFeasible[taskIndex][vmIndex];
+        if (lazy) {
+            ensureRow(taskIndex);
+            return rowBudgetFeasible[vmIndex];
+        }
+        return store.canMeetBudget(taskIndex, vmIndex);
     }
     
     /**
      * Checks if both QoS constraints are satisfied.
      */
     public boolean isQoSFeasible(int taskIndex, int vmIndex) {
-        return deadlineFeasible[taskIndex][vmIndex] && budgetFeasible[taskIndex][vmIndex];
+        return canMeetDeadline(taskIndex, vmIndex) && canMeetBudget(taskIndex, vmIndex);
     }
     
     /**
@@ -240,8 +530,57 @@ public class TaskProfilingModule {
                 continue;
             }
             
-            if (qosScoreMatrix[taskIndex][v] < bestScore) {
-                bestScore = qosScoreMatrix[taskIndex][v];
+            double score = getQoSScore(taskIndex, v);
+            if (score < bestScore) {
+                bestScore = score;
+                bestVM = v;
+            }
+        }
+        
+        return bestVM;
+    }
+    
+    /**
+     * Finds the VM with the lowest QoS score weighted by a per-VM load
+     * factor, among the VMs that meet the required constraints. Ties go to
+     * the lowest VM index.
+     * @param taskIndex Index of the task
+     * @param loadFactors Multiplier of each VM's score
+     * @param requireDeadline If true, only considers VMs that meet the deadline
+     * @param requireBudget If true, only considers VMs that meet the budget
+     * @return Index of the best VM, or -1 if none qualifies
+     */
+    public int findBestVM(int taskIndex, double[] loadFactors, boolean requireDeadline, boolean requireBudget) {
+        if (isRowVectorized()) {
+            double[] scores;
+            int offset;
+            if (lazy) {
+                ensureRow(taskIndex);
+                scores = rowScores;
+                offset = 0;
+            } else {
+                scores = store.qosScores();
+                offset = taskIndex * vmMips.length;
+            }
+            return VectorScoring.selectVM(taskLengths[taskIndex], deadlines[taskIndex], budgets[taskIndex],
+                    vmMips, vmLatencies, vmCostsPerSecond, scores, offset, loadFactors,
+                    requireDeadline, requireBudget);
+        }
+        
+        int bestVM = -1;
+        double bestScore = Double.MAX_VALUE;
+        
+        for (int v = 0; v < vmMips.length; v++) {
+            if (requireDeadline && !canMeetDeadline(taskIndex, v)) {
+                continue;
+            }
+            if (requireBudget && !canMeetBudget(taskIndex, v)) {
+                continue;
+            }
+            
+            double score = getQoSScore(taskIndex, v) * loadFactors[v];
+            if (score < bestScore) {
+                bestScore = score;
                 bestVM = v;
             }
         }
@@ -266,19 +605,18 @@ public class TaskProfilingModule {
      * Gets the profile for a specific task.
      */
     public TaskProfile getTaskProfile(int taskIndex) {
-        CloudTask task = tasks.get(taskIndex);
-        TaskProfile profile = new TaskProfile(task);
+        TaskProfile profile = new TaskProfile(tasks.getTask(taskIndex));
         
         for (int v = 0; v < vms.size(); v++) {
             VMProfile vmProfile = new VMProfile();
             vmProfile.vmIndex = v;
             vmProfile.vmId = vms.get(v).getVmId();
-            vmProfile.executionTime = executionTimeMatrix[taskIndex][v];
-            vmProfile.totalTime = totalTimeMatrix[taskIndex][v];
-            vmProfile.cost = executionCostMatrix[taskIndex][v];
-            vmProfile.qosScore = qosScoreMatrix[taskIndex][v];
-            vmProfile.deadlineFeasible = deadlineFeasible[taskIndex][v];
-            vmProfile.budgetFeasible = budgetFeasible[taskIndex][v];
+            vmProfile.executionTime = getExecutionTime(taskIndex, v);
+            vmProfile.totalTime = getTotalTime(taskIndex, v);
+            vmProfile.cost = getExecutionCost(taskIndex, v);
+            vmProfile.qosScore = getQoSScore(taskIndex, v);
+            vmProfile.deadlineFeasible = canMeetDeadline(taskIndex, v);
+            vmProfile.budgetFeasible = canMeetBudget(taskIndex, v);
             
             profile.vmProfiles.add(vmProfile);
         }
@@ -287,65 +625,73 @@ public class TaskProfilingModule {
     }
     
     /**
-     * Prints the profiling results.
+     * Logs the profiling results at debug level. Nothing is formatted
+     * unless debug logging is enabled.
      */
     public void printProfilingResults() {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("TASK PROFILING RESULTS");
-        System.out.println("=".repeat(80));
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        
+        logger.debug("TASK PROFILING RESULTS");
         
         // Print execution time matrix
-        System.out.println("\nExecution Time Matrix (seconds):");
-        printMatrix(executionTimeMatrix, "%.4f");
+        logger.debug("Execution Time Matrix (seconds):");
+        printMatrix(this::getExecutionTime, "%.4f");
         
         // Print total time matrix
-        System.out.println("\nTotal Time Matrix (with latency, seconds):");
-        printMatrix(totalTimeMatrix, "%.4f");
+        logger.debug("Total Time Matrix (with latency, seconds):");
+        printMatrix(this::getTotalTime, "%.4f");
         
         // Print cost matrix
-        System.out.println("\nExecution Cost Matrix ($):");
-        printMatrix(executionCostMatrix, "%.4f");
+        logger.debug("Execution Cost Matrix ($):");
+        printMatrix(this::getExecutionCost, "%.4f");
         
         // Print QoS score matrix
-        System.out.println("\nQoS Score Matrix (lower is better):");
-        printMatrix(qosScoreMatrix, "%.4f");
+        logger.debug("QoS Score Matrix (lower is better):");
+        printMatrix(this::getQoSScore, "%.4f");
         
         // Print feasibility summary
-        System.out.println("\nFeasibility Summary:");
+        logger.debug("Feasibility Summary:");
         for (int t = 0; t < tasks.size(); t++) {
-            CloudTask task = tasks.get(t);
             List<Integer> feasibleVMs = findFeasibleVMs(t);
             int bestVM = findBestVM(t, true);
             
-            System.out.println(String.format("  Task %d: %d feasible VM(s), Best VM: %s",
-                    task.getTaskId(), feasibleVMs.size(),
-                    bestVM >= 0 ? "VM " + vms.get(bestVM).getVmId() : "None"));
+            logger.debug("  Task {}: {} feasible VM(s), Best VM: {}",
+                    tasks.getTaskId(t), feasibleVMs.size(),
+                    bestVM >= 0 ? "VM " + vms.get(bestVM).getVmId() : "None");
         }
-        
-        System.out.println("=".repeat(80) + "\n");
     }
     
     /**
-     * Prints a matrix with headers.
+     * Logs a matrix with headers, one line per task.
      */
-    private void printMatrix(double[][] matrix, String format) {
-        // Print VM headers
-        System.out.print("          ");
+    private void printMatrix(CellValue matrix, String format) {
+        // VM headers
+        StringBuilder line = new StringBuilder("          ");
         for (int v = 0; v < vms.size(); v++) {
-            System.out.print(String.format("VM%-8d", vms.get(v).getVmId()));
+            line.append(String.format("VM%-8d", vms.get(v).getVmId()));
         }
-        System.out.println();
+        logger.debug(line.toString());
         
-        // Print rows
+        // Rows
         for (int t = 0; t < tasks.size(); t++) {
-            System.out.print(String.format("Task %-4d ", tasks.get(t).getTaskId()));
+            line.setLength(0);
+            line.append(String.format("Task %-4d ", tasks.getTaskId(t)));
             for (int v = 0; v < vms.size(); v++) {
-                System.out.print(String.format(format + "  ", matrix[t][v]));
+                line.append(String.format(format + "  ", matrix.get(t, v)));
             }
-            System.out.println();
+            logger.debug(line.toString());
         }
     }
     
+    /**
+     * Reads one value of a task-VM pair for printing.
+     */
+    private interface CellValue {
+        double get(int taskIndex, int vmIndex);
+    }
+    
     /**
      * Inner class to hold task profile information.
      */
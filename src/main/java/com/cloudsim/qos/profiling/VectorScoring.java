@@ -0,0 +1,180 @@
+package com.cloudsim.qos.profiling;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for QoS scoring, built on the incubating JDK Vector API.
+ *
+ * Each kernel processes one task against every VM, one VM per lane, with
+ * the same operations in the same order as the scalar code in
+ * {@link TaskProfilingModule}, so scores and selected VMs are identical.
+ * The VMs left over after the last full vector are handled by scalar code.
+ *
+ * This class must only be loaded when the jdk.incubator.vector module is
+ * present; {@link TaskProfilingModule#isVectorScoringSupported()} checks
+ * that before any kernel is called.
+ */
+final class VectorScoring {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // Lane number of every lane, used to track the VM index per lane
+    private static final double[] LANE_INDEX = new double[SPECIES.length()];
+
+    static {
+        for (int lane = 0; lane < LANE_INDEX.length; lane++) {
+            LANE_INDEX[lane] = lane;
+        }
+    }
+
+    private VectorScoring() {
+    }
+
+    /**
+     * Checks whether the preferred vector shape holds more than one double,
+     * i.e. whether the hardware gives the kernels any parallelism.
+     */
+    static boolean isUseful() {
+        return SPECIES.length() > 1;
+    }
+
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Computes the QoS scores of one task on every VM into
+     * scores[offset .. offset + numVMs). Feasibility flags are written to
+     * the two boolean arrays when they are not null.
+     */
+    static void scoreRow(double length, double deadline, double budget, double priorityModifier,
+                         double alpha, double beta, double maxTime, double maxCost,
+                         double[] vmMips, double[] vmLatencies, double[] vmCostsPerSecond,
+                         double[] scores, int offset,
+                         boolean[] deadlineFeasible, boolean[] budgetFeasible) {
+        int numVMs = vmMips.length;
+        int bound = SPECIES.loopBound(numVMs);
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int v = 0;
+
+        for (; v < bound; v += SPECIES.length()) {
+            DoubleVector executionTime = DoubleVector.broadcast(SPECIES, length)
+                    .div(DoubleVector.fromArray(SPECIES, vmMips, v));
+            DoubleVector totalTime = executionTime.add(DoubleVector.fromArray(SPECIES, vmLatencies, v));
+            DoubleVector cost = executionTime.mul(DoubleVector.fromArray(SPECIES, vmCostsPerSecond, v));
+            VectorMask<Double> deadlineOk = totalTime.compare(VectorOperators.LE, deadline);
+            VectorMask<Double> budgetOk = cost.compare(VectorOperators.LE, budget);
+
+            // Base score, then the penalties of the violated constraints only
+            DoubleVector score = totalTime.div(maxTime).mul(alpha)
+                    .add(cost.div(maxCost).mul(beta));
+            score = score.add(totalTime.sub(deadline).div(deadline).mul(10).blend(zero, deadlineOk));
+            score = score.add(cost.sub(budget).div(budget).mul(10).blend(zero, budgetOk));
+            score.mul(priorityModifier).intoArray(scores, offset + v);
+
+            if (deadlineFeasible != null) {
+                deadlineOk.intoArray(deadlineFeasible, v);
+                budgetOk.intoArray(budgetFeasible, v);
+            }
+        }
+
+        for (; v < numVMs; v++) {
+            double executionTime = length / vmMips[v];
+            double totalTime = executionTime + vmLatencies[v];
+            double cost = executionTime * vmCostsPerSecond[v];
+            boolean deadlineOk = totalTime <= deadline;
+            boolean budgetOk = cost <= budget;
+
+            double score = alpha * (totalTime / maxTime) + beta * (cost / maxCost);
+            if (!deadlineOk) {
+                score += (totalTime - deadline) / deadline * 10;
+            }
+            if (!budgetOk) {
+                score += (cost - budget) / budget * 10;
+            }
+            scores[offset + v] = score * priorityModifier;
+
+            if (deadlineFeasible != null) {
+                deadlineFeasible[v] = deadlineOk;
+                budgetFeasible[v] = budgetOk;
+            }
+        }
+    }
+
+    /**
+     * Finds the VM with the lowest score × load factor among the VMs that
+     * meet the required constraints. Ties go to the lowest VM index, as in
+     * a scalar scan with a strict comparison.
+     * @return Index of the VM, or -1 if no VM qualifies
+     */
+    static int selectVM(double length, double deadline, double budget,
+                        double[] vmMips, double[] vmLatencies, double[] vmCostsPerSecond,
+                        double[] scores, int offset, double[] loadFactors,
+                        boolean requireDeadline, boolean requireBudget) {
+        int numVMs = vmMips.length;
+        int bound = SPECIES.loopBound(numVMs);
+        DoubleVector laneIndex = DoubleVector.fromArray(SPECIES, LANE_INDEX, 0);
+        DoubleVector bestScores = DoubleVector.broadcast(SPECIES, Double.MAX_VALUE);
+        DoubleVector bestIndices = DoubleVector.broadcast(SPECIES, -1);
+        int v = 0;
+
+        // Each lane keeps the first VM with its lowest score
+        for (; v < bound; v += SPECIES.length()) {
+            DoubleVector combined = DoubleVector.fromArray(SPECIES, scores, offset + v)
+                    .mul(DoubleVector.fromArray(SPECIES, loadFactors, v));
+            VectorMask<Double> better = combined.compare(VectorOperators.LT, bestScores);
+
+            if (requireDeadline || requireBudget) {
+                DoubleVector executionTime = DoubleVector.broadcast(SPECIES, length)
+                        .div(DoubleVector.fromArray(SPECIES, vmMips, v));
+                if (requireDeadline) {
+                    better = better.and(executionTime.add(DoubleVector.fromArray(SPECIES, vmLatencies, v))
+                            .compare(VectorOperators.LE, deadline));
+                }
+                if (requireBudget) {
+                    better = better.and(executionTime.mul(DoubleVector.fromArray(SPECIES, vmCostsPerSecond, v))
+                            .compare(VectorOperators.LE, budget));
+                }
+            }
+
+            bestScores = bestScores.blend(combined, better);
+            bestIndices = bestIndices.blend(laneIndex.add(v), better);
+        }
+
+        // Merge the lanes: lowest score first, then lowest index
+        double bestScore = Double.MAX_VALUE;
+        int bestVM = -1;
+        double[] laneScores = bestScores.toArray();
+        double[] laneIndices = bestIndices.toArray();
+        for (int lane = 0; lane < laneScores.length; lane++) {
+            int index = (int) laneIndices[lane];
+            if (index < 0) {
+                continue;
+            }
+            if (laneScores[lane] < bestScore || (laneScores[lane] == bestScore && index < bestVM)) {
+                bestScore = laneScores[lane];
+                bestVM = index;
+            }
+        }
+
+        for (; v < numVMs; v++) {
+            double executionTime = length / vmMips[v];
+            if (requireDeadline && !(executionTime + vmLatencies[v] <= deadline)) {
+                continue;
+            }
+            if (requireBudget && !(executionTime * vmCostsPerSecond[v] <= budget)) {
+                continue;
+            }
+            double combined = scores[offset + v] * loadFactors[v];
+            if (combined < bestScore) {
+                bestScore = combined;
+                bestVM = v;
+            }
+        }
+
+        return bestVM;
+    }
+}
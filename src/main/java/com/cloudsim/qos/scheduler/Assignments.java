@@ -0,0 +1,69 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.SchedulingResult;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers shared by the schedulers for recording assignments.
+ *
+ * Each scheduler runs one engine that reads a {@link com.cloudsim.qos.model.TaskTable}
+ * and writes an {@link Assignment}. The List API turns that assignment into
+ * SchedulingResults referencing the caller's task objects, which are never
+ * modified.
+ */
+final class Assignments {
+
+    private Assignments() {
+    }
+
+    /**
+     * Stores the results of an assignment as a scheduler's current results.
+     */
+    static void collect(List<SchedulingResult> assignmentResults, List<SchedulingResult> results,
+                        Map<Integer, SchedulingResult> resultMap) {
+        for (SchedulingResult result : assignmentResults) {
+            results.add(result);
+            resultMap.put(result.getTask().getTaskId(), result);
+        }
+    }
+
+    /**
+     * Logs one assignment at debug level.
+     */
+    static void logAssignment(Logger logger, Assignment assignment, int t) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Task {} -> VM {} (Time: {}s, Cost: ${})", assignment.getTasks().getTaskId(t),
+                    assignment.getAssignedVmId(t), String.format("%.4f", assignment.getTotalTime(t)),
+                    String.format("%.4f", assignment.getCost(t)));
+        }
+    }
+
+    /**
+     * Logs the totals of the assigned tasks at info level.
+     */
+    static void logSummary(Logger logger, String label, Assignment assignment) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        double totalTime = 0, totalCost = 0;
+        int deadlinesMet = 0, budgetsMet = 0;
+
+        for (int k = 0; k < assignment.getAssignedCount(); k++) {
+            int t = assignment.getTaskAt(k);
+            totalTime += assignment.getTotalTime(t);
+            totalCost += assignment.getCost(t);
+            if (assignment.isDeadlineMet(t)) deadlinesMet++;
+            if (assignment.isBudgetMet(t)) budgetsMet++;
+        }
+
+        int assigned = assignment.getAssignedCount();
+        logger.info("{} Summary: Total Time: {}s, Total Cost: ${}, Deadlines Met: {}/{}, Budgets Met: {}/{}",
+                label, String.format("%.4f", totalTime), String.format("%.4f", totalCost),
+                deadlinesMet, assigned, budgetsMet, assigned);
+    }
+}
@@ -0,0 +1,123 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.List;
+
+/**
+ * Incrementally maintained completion-time matrix shared by the
+ * makespan-oriented batch heuristics (Max-Min, Sufferage).
+ *
+ * Completion time of task t on VM v is the VM's ready time (its
+ * earliest-free PE, see {@link VmTimeline}) + totalTime(t, v). The matrix
+ * is implicit: each unscheduled task keeps its best and second-best
+ * completion times, found through a {@link VmAvailabilityIndex}, and
+ * other entries are computed on demand. Assigning a task can only raise
+ * one VM's ready time, so a task's best pair is re-ranked only when the
+ * changed VM was one of its two best. Memory stays O(T + V) and ranking a
+ * task typically costs O(log V) rather than a pass over all VMs.
+ */
+class CompletionTimeMatrix {
+
+    private final int numTasks;
+
+    private final long[] lengths;         // [task] -> length in MI
+    private final List<VirtualMachine> vms;
+    private final VmTimeline timeline;    // per-VM PE free times
+    private final VmAvailabilityIndex availability;
+
+    private final int[] bestVM;           // [task] -> VM index with earliest completion
+    private final double[] bestTime;      // [task] -> earliest completion time
+    private final int[] secondVM;         // [task] -> VM index with second earliest completion
+    private final double[] secondTime;    // [task] -> second earliest completion time
+    private final boolean[] scheduled;
+    private int remaining;
+
+    CompletionTimeMatrix(TaskTable tasks, List<VirtualMachine> vms) {
+        this.numTasks = tasks.size();
+        this.lengths = tasks.getLengths();
+        this.vms = vms;
+        this.timeline = new VmTimeline(vms);
+        this.availability = new VmAvailabilityIndex(vms);
+        this.bestVM = new int[numTasks];
+        this.bestTime = new double[numTasks];
+        this.secondVM = new int[numTasks];
+        this.secondTime = new double[numTasks];
+        this.scheduled = new boolean[numTasks];
+        this.remaining = numTasks;
+
+        for (int t = 0; t < numTasks; t++) {
+            rankTask(t);
+        }
+    }
+
+    /**
+     * Re-evaluates the best and second-best VM for a task across all VMs.
+     * Ties resolve to the lower VM index.
+     */
+    private void rankTask(int t) {
+        availability.earliestTwo(lengths[t]);
+        bestVM[t] = availability.firstVm();
+        bestTime[t] = availability.firstTime();
+        secondVM[t] = availability.secondVm();
+        secondTime[t] = availability.secondTime();
+    }
+
+    /**
+     * Assigns a task to the VM's earliest-free PE, which advances the VM's
+     * ready time, and refreshes the affected column.
+     * @return The completion time of the assigned task
+     */
+    double assign(int taskIndex, int vmIndex) {
+        double finish = completionTime(taskIndex, vmIndex);
+        scheduled[taskIndex] = true;
+        remaining--;
+        timeline.assign(vmIndex, finish);
+        availability.update(vmIndex, timeline.readyTime(vmIndex));
+
+        for (int t = 0; t < numTasks; t++) {
+            if (!scheduled[t] && (bestVM[t] == vmIndex || secondVM[t] == vmIndex)) {
+                rankTask(t);
+            }
+        }
+        return finish;
+    }
+
+    double completionTime(int taskIndex, int vmIndex) {
+        return timeline.readyTime(vmIndex) + vms.get(vmIndex).calculateTotalTime(lengths[taskIndex]);
+    }
+
+    double readyTime(int vmIndex) {
+        return timeline.readyTime(vmIndex);
+    }
+
+    int bestVM(int taskIndex) {
+        return bestVM[taskIndex];
+    }
+
+    double bestTime(int taskIndex) {
+        return bestTime[taskIndex];
+    }
+
+    /**
+     * Difference between the second-best and best completion time.
+     * Infinite when only one VM exists.
+     */
+    double sufferage(int taskIndex) {
+        return secondVM[taskIndex] < 0 ? Double.POSITIVE_INFINITY
+                : secondTime[taskIndex] - bestTime[taskIndex];
+    }
+
+    boolean isScheduled(int taskIndex) {
+        return scheduled[taskIndex];
+    }
+
+    int getNumTasks() {
+        return numTasks;
+    }
+
+    int getRemaining() {
+        return remaining;
+    }
+}
@@ -0,0 +1,44 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.List;
+
+/**
+ * VM selection rule used by {@link OnlineScheduler} when a queued task is
+ * dispatched. Every {@link TaskScheduler} exposes its own rule through
+ * {@link TaskScheduler#getDispatchPolicy()}.
+ */
+@FunctionalInterface
+public interface DispatchPolicy {
+    
+    /**
+     * Minimum completion time: among idle VMs this is the VM that runs the
+     * task fastest. Ties resolve to the lower VM index.
+     */
+    DispatchPolicy MINIMUM_COMPLETION_TIME = (task, vms, idle, idleCount, now) -> {
+        int best = -1;
+        double bestTime = Double.MAX_VALUE;
+        for (int i = 0; i < idleCount; i++) {
+            int v = idle[i];
+            double time = vms.get(v).calculateTotalTime(task.getTaskLength());
+            if (time < bestTime || (time == bestTime && v < best)) {
+                bestTime = time;
+                best = v;
+            }
+        }
+        return best;
+    };
+    
+    /**
+     * Chooses the VM the task at the head of the queue starts on.
+     * @param task The task being dispatched
+     * @param vms All VMs
+     * @param idle Indices into vms of the idle VMs (those with a free PE), in the first idleCount slots (unordered)
+     * @param idleCount Number of idle VMs, at least 1
+     * @param now Current simulation time
+     * @return Index into vms of one of the idle VMs
+     */
+    int selectVM(CloudTask task, List<VirtualMachine> vms, int[] idle, int idleCount, double now);
+}
@@ -1,8 +1,12 @@
 package com.cloudsim.qos.scheduler;
 
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -15,14 +19,14 @@ import java.util.*;
  */
 public class FCFSScheduler implements TaskScheduler {
     
+    private static final Logger logger = LoggerFactory.getLogger(FCFSScheduler.class);
+    
     private List<SchedulingResult> results;
     private Map<Integer, SchedulingResult> resultMap;
-    private Map<Integer, Double> vmLoadTime;
     
     public FCFSScheduler() {
         this.results = new ArrayList<>();
         this.resultMap = new HashMap<>();
-        this.vmLoadTime = new HashMap<>();
     }
     
     @Override
@@ -38,74 +42,50 @@ public class FCFSScheduler implements TaskScheduler {
     
     @Override
     public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+    
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+    
+    /**
+     * Runs FCFS over the table, recording every decision in a new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
         reset();
+        Assignment assignment = new Assignment(tasks, vms);
         
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("FCFS SCHEDULING");
-        System.out.println("=".repeat(60));
-        System.out.println("Algorithm: " + getName());
-        System.out.println("Tasks: " + tasks.size() + ", VMs: " + vms.size());
+        logger.info("{}: scheduling {} tasks on {} VMs", getName(), tasks.size(), vms.size());
         
-        // Initialize VM load tracking
-        for (VirtualMachine vm : vms) {
-            vmLoadTime.put(vm.getVmId(), 0.0);
-        }
+        // Initialize VM load tracking, one slot per PE
+        VmTimeline timeline = new VmTimeline(vms);
         
         int vmIndex = 0;
         
         // Process tasks in order (FCFS)
-        for (CloudTask task : tasks) {
+        for (int t = 0; t < tasks.size(); t++) {
             // Round-robin VM selection
-            VirtualMachine selectedVM = vms.get(vmIndex);
+            int v = vmIndex;
+            VirtualMachine selectedVM = vms.get(v);
             vmIndex = (vmIndex + 1) % vms.size();
             
-            // Create scheduling result
-            SchedulingResult result = new SchedulingResult(task, selectedVM);
-            
-            // Set timing information
-            double startTime = vmLoadTime.get(selectedVM.getVmId());
-            result.setStartTime(startTime);
-            result.setFinishTime(startTime + result.getTotalTime());
+            // Set timing information: start on the earliest-free PE
+            double startTime = timeline.readyTime(v);
+            double finishTime = startTime + selectedVM.calculateTotalTime(tasks.getTaskLength(t));
             
             // Update VM load
-            vmLoadTime.put(selectedVM.getVmId(), result.getFinishTime());
-            
-            // Update task
-            task.setAssignedVmId(selectedVM.getVmId());
-            task.setEstimatedExecutionTime(result.getTotalTime());
-            task.setEstimatedCost(result.getCost());
-            task.setDeadlineMet(result.isDeadlineSatisfied());
-            task.setBudgetMet(result.isBudgetSatisfied());
+            timeline.assign(v, finishTime);
             
-            results.add(result);
-            resultMap.put(task.getTaskId(), result);
-            
-            System.out.println("Task " + task.getTaskId() + " -> VM " + selectedVM.getVmId() +
-                    " (Time: " + String.format("%.4f", result.getTotalTime()) + 
-                    "s, Cost: $" + String.format("%.4f", result.getCost()) + ")");
-        }
-        
-        printSummary();
-        return resultMap;
-    }
-    
-    private void printSummary() {
-        double totalTime = 0, totalCost = 0;
-        int deadlinesMet = 0, budgetsMet = 0;
-        
-        for (SchedulingResult result : results) {
-            totalTime += result.getTotalTime();
-            totalCost += result.getCost();
-            if (result.isDeadlineSatisfied()) deadlinesMet++;
-            if (result.isBudgetSatisfied()) budgetsMet++;
+            assignment.record(t, v, startTime, finishTime);
+            Assignments.logAssignment(logger, assignment, t);
         }
         
-        System.out.println("\n--- FCFS Summary ---");
-        System.out.println("Total Time: " + String.format("%.4f", totalTime) + "s");
-        System.out.println("Total Cost: $" + String.format("%.4f", totalCost));
-        System.out.println("Deadlines Met: " + deadlinesMet + "/" + results.size());
-        System.out.println("Budgets Met: " + budgetsMet + "/" + results.size());
-        System.out.println("=".repeat(60) + "\n");
+        Assignments.logSummary(logger, "FCFS", assignment);
+        return assignment;
     }
     
     @Override
@@ -113,10 +93,29 @@ public class FCFSScheduler implements TaskScheduler {
         return new ArrayList<>(results);
     }
     
+    /**
+     * Online round-robin: the first idle VM at or after the rotating pointer.
+     */
+    @Override
+    public DispatchPolicy getDispatchPolicy() {
+        int[] next = {0};
+        return (task, vms, idle, idleCount, now) -> {
+            int best = -1, bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < idleCount; i++) {
+                int distance = Math.floorMod(idle[i] - next[0], vms.size());
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = idle[i];
+                }
+            }
+            next[0] = (best + 1) % vms.size();
+            return best;
+        };
+    }
+    
     @Override
     public void reset() {
         results.clear();
         resultMap.clear();
-        vmLoadTime.clear();
     }
 }
@@ -0,0 +1,275 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Genetic Algorithm Scheduler
+ *
+ * Searches whole task-to-VM plans instead of placing tasks one at a time.
+ * A chromosome is an int[] holding the VM index of every task, and its
+ * fitness is the summed α/β QoS score of the decoded plan (see
+ * {@link PlanEvaluator}), so queueing delays count against a plan.
+ *
+ * The first population holds the QoS-aware and Min-Min plans, mutated
+ * copies of the QoS-aware plan and random plans. Each generation keeps
+ * the best plans unchanged (elitism) and breeds the rest by tournament
+ * selection, uniform crossover and mutation (reassigning a task or
+ * swapping the VMs of two tasks). Children are bred and evaluated in
+ * parallel on the fork-join pool. Each child draws from its own random
+ * stream, derived from the scheduler's seed, so a run with a given seed
+ * and generation count gives the same plan on any number of threads.
+ *
+ * The search stops after the configured number of generations or when the
+ * time budget runs out, whichever comes first. Because of elitism, the
+ * result is never worse than the QoS-aware plan under this objective.
+ */
+public class GeneticScheduler implements TaskScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneticScheduler.class);
+
+    private static final int ELITE_COUNT = 2;
+    private static final int TOURNAMENT_SIZE = 3;
+    private static final double CROSSOVER_RATE = 0.9;
+    private static final int MAX_MUTATIONS = 4;         // genes changed per child, at most
+    private static final long STREAM_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private SimulationConfig config;
+    private List<SchedulingResult> results;
+    private Map<Integer, SchedulingResult> resultMap;
+    private long seed;
+
+    // Statistics of the last run
+    private int generations;
+    private double initialFitness;
+    private double bestFitness;
+
+    public GeneticScheduler(SimulationConfig config) {
+        this(config, System.currentTimeMillis());
+    }
+
+    public GeneticScheduler(SimulationConfig config, long seed) {
+        this.config = config;
+        this.seed = seed;
+        this.results = new ArrayList<>();
+        this.resultMap = new HashMap<>();
+    }
+
+    @Override
+    public String getName() {
+        return "Genetic Algorithm Scheduler";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Evolves complete task-to-VM plans, seeded with the QoS-aware and Min-Min plans, " +
+               "minimizing the summed QoS score (α=" + config.getAlpha() + ", β=" + config.getBeta() +
+               ") within a " + config.getGaTimeBudgetMs() + " ms time budget.";
+    }
+
+    @Override
+    public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+
+    /**
+     * Evolves plans for the table and records the best one in a new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
+        reset();
+        Assignment assignment = new Assignment(tasks, vms);
+        assignment.setScoreWeights(config.getAlpha(), config.getBeta());
+        if (tasks.size() == 0 || vms.isEmpty()) {
+            return assignment;
+        }
+
+        int populationSize = Math.max(ELITE_COUNT + 2, config.getGaPopulationSize());
+        long deadline = System.nanoTime() + config.getGaTimeBudgetMs() * 1_000_000L;
+        logger.info("{}: scheduling {} tasks on {} VMs (population {}, up to {} generations, {} ms budget, seed {})",
+                getName(), tasks.size(), vms.size(), populationSize, config.getGaGenerations(),
+                config.getGaTimeBudgetMs(), seed);
+
+        PlanEvaluator evaluator = new PlanEvaluator(tasks, vms, config.getAlpha(), config.getBeta());
+        SplittableRandom random = new SplittableRandom(seed);
+
+        // Initial population: greedy seeds, their neighbours and random plans
+        int[][] population = new int[populationSize][];
+        population[0] = evaluator.planOf(new QoSAwareScheduler(config).schedule(tasks, vms));
+        population[1] = evaluator.planOf(new MinMinScheduler().schedule(tasks, vms));
+        for (int i = 2; i < populationSize; i++) {
+            if (i % 2 == 0) {
+                population[i] = population[0].clone();
+                mutate(population[i], vms.size(), random);
+            } else {
+                population[i] = randomPlan(tasks.size(), vms.size(), random);
+            }
+        }
+        double[] fitness = new double[populationSize];
+        int[][] initial = population;
+        IntStream.range(0, populationSize).parallel()
+                .forEach(i -> fitness[i] = evaluator.qosFitness(initial[i]));
+        initialFitness = fitness[0];
+
+        while (generations < config.getGaGenerations() && System.nanoTime() < deadline) {
+            population = nextGeneration(population, fitness, evaluator, random.nextLong());
+            generations++;
+        }
+
+        int best = 0;
+        for (int i = 1; i < populationSize; i++) {
+            if (fitness[i] < fitness[best]) {
+                best = i;
+            }
+        }
+        bestFitness = fitness[best];
+
+        evaluator.record(population[best], assignment);
+        for (int k = 0; k < assignment.getAssignedCount(); k++) {
+            Assignments.logAssignment(logger, assignment, assignment.getTaskAt(k));
+        }
+
+        logger.info("{}: {} generations, QoS fitness {} (QoS-aware plan: {})", getName(), generations,
+                String.format("%.4f", bestFitness), String.format("%.4f", initialFitness));
+        Assignments.logSummary(logger, "Genetic", assignment);
+        return assignment;
+    }
+
+    /**
+     * Breeds one generation. The fitness array is updated in place to match
+     * the returned population.
+     */
+    private int[][] nextGeneration(int[][] population, double[] fitness, PlanEvaluator evaluator,
+                                   long generationSeed) {
+        int populationSize = population.length;
+        int numVMs = evaluator.getNumVMs();
+
+        // Elites survive unchanged
+        int[] ranked = IndexSort.sort(populationSize, (a, b) -> Double.compare(fitness[a], fitness[b]));
+        int[][] next = new int[populationSize][];
+        double[] nextFitness = new double[populationSize];
+        for (int i = 0; i < ELITE_COUNT; i++) {
+            next[i] = population[ranked[i]];
+            nextFitness[i] = fitness[ranked[i]];
+        }
+
+        IntStream.range(ELITE_COUNT, populationSize).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(generationSeed + i * STREAM_STRIDE);
+            int[] first = population[tournament(fitness, random)];
+            int[] second = population[tournament(fitness, random)];
+
+            int[] child = random.nextDouble() < CROSSOVER_RATE ? crossover(first, second, random) : first.clone();
+            mutate(child, numVMs, random);
+
+            next[i] = child;
+            nextFitness[i] = evaluator.qosFitness(child);
+        });
+
+        System.arraycopy(nextFitness, 0, fitness, 0, populationSize);
+        return next;
+    }
+
+    /**
+     * Picks the fittest of a few random individuals.
+     */
+    private static int tournament(double[] fitness, SplittableRandom random) {
+        int best = random.nextInt(fitness.length);
+        for (int k = 1; k < TOURNAMENT_SIZE; k++) {
+            int candidate = random.nextInt(fitness.length);
+            if (fitness[candidate] < fitness[best]) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Uniform crossover: each task takes its VM from either parent.
+     */
+    static int[] crossover(int[] first, int[] second, SplittableRandom random) {
+        int[] child = new int[first.length];
+        long bits = 0;
+        for (int t = 0; t < child.length; t++) {
+            if ((t & 63) == 0) {
+                bits = random.nextLong();
+            }
+            child[t] = (bits & (1L << t)) != 0 ? first[t] : second[t];
+        }
+        return child;
+    }
+
+    /**
+     * Reassigns a task to a random VM or swaps the VMs of two tasks, a few times.
+     */
+    static void mutate(int[] plan, int numVMs, SplittableRandom random) {
+        int mutations = 1 + random.nextInt(MAX_MUTATIONS);
+        for (int m = 0; m < mutations; m++) {
+            int t = random.nextInt(plan.length);
+            if (random.nextBoolean()) {
+                plan[t] = random.nextInt(numVMs);
+            } else {
+                int other = random.nextInt(plan.length);
+                int vm = plan[t];
+                plan[t] = plan[other];
+                plan[other] = vm;
+            }
+        }
+    }
+
+    static int[] randomPlan(int numTasks, int numVMs, SplittableRandom random) {
+        int[] plan = new int[numTasks];
+        for (int t = 0; t < numTasks; t++) {
+            plan[t] = random.nextInt(numVMs);
+        }
+        return plan;
+    }
+
+    @Override
+    public List<SchedulingResult> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    @Override
+    public void reset() {
+        results.clear();
+        resultMap.clear();
+        generations = 0;
+        initialFitness = 0;
+        bestFitness = 0;
+    }
+
+    // Statistics of the last run
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * QoS fitness of the QoS-aware plan the search started from.
+     */
+    public double getInitialFitness() {
+        return initialFitness;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
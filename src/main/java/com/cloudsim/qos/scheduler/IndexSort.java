@@ -0,0 +1,61 @@
+package com.cloudsim.qos.scheduler;
+
+/**
+ * Stable sort of index permutations over primitive keys.
+ * 
+ * Instead of sorting task objects and looking their positions up again,
+ * schedulers sort the indices 0..n-1 with a comparator that reads primitive
+ * key arrays, so every sorted entry still carries its original index.
+ */
+public final class IndexSort {
+    
+    /**
+     * Compares two indices by their keys.
+     */
+    @FunctionalInterface
+    public interface IndexComparator {
+        int compare(int a, int b);
+    }
+    
+    private IndexSort() {
+    }
+    
+    /**
+     * Returns the indices 0..n-1 ordered by the comparator.
+     * Equal keys keep their original relative order.
+     */
+    public static int[] sort(int n, IndexComparator comparator) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        
+        // Bottom-up merge sort, alternating between the two buffers
+        int[] buffer = new int[n];
+        int[] src = order, dst = buffer;
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += width << 1) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + (width << 1), n);
+                merge(src, dst, lo, mid, hi, comparator);
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+    
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi, IndexComparator comparator) {
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            dst[k++] = comparator.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+        while (i < mid) {
+            dst[k++] = src[i++];
+        }
+        while (j < hi) {
+            dst[k++] = src[j++];
+        }
+    }
+}
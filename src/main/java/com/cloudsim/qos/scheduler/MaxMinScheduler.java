@@ -0,0 +1,112 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Module 5: Baseline Scheduling Module - Max-Min Scheduler
+ * 
+ * This module implements the Max-Min scheduling algorithm.
+ * Among all unscheduled tasks it selects the one whose minimum completion
+ * time is largest and assigns it to the VM that gives that completion time,
+ * so long tasks are placed early and short tasks fill the gaps.
+ */
+public class MaxMinScheduler implements TaskScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MaxMinScheduler.class);
+    
+    private List<SchedulingResult> results;
+    private Map<Integer, SchedulingResult> resultMap;
+    
+    public MaxMinScheduler() {
+        this.results = new ArrayList<>();
+        this.resultMap = new HashMap<>();
+    }
+    
+    @Override
+    public String getName() {
+        return "Max-Min Scheduling";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Assigns tasks by selecting the task whose minimum completion time is largest " +
+               "and mapping it to the VM that gives that completion time.";
+    }
+    
+    @Override
+    public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+    
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+    
+    /**
+     * Runs Max-Min over the table, recording every decision in a new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
+        reset();
+        Assignment assignment = new Assignment(tasks, vms);
+        
+        logger.info("{}: scheduling {} tasks on {} VMs", getName(), tasks.size(), vms.size());
+        
+        if (vms.isEmpty()) {
+            Assignments.logSummary(logger, "Max-Min", assignment);
+            return assignment;
+        }
+        
+        CompletionTimeMatrix matrix = new CompletionTimeMatrix(tasks, vms);
+        
+        while (matrix.getRemaining() > 0) {
+            // Find the task whose best completion time is the largest
+            int bestTask = -1;
+            double maxCompletionTime = -1;
+            
+            for (int t = 0; t < matrix.getNumTasks(); t++) {
+                if (!matrix.isScheduled(t) && matrix.bestTime(t) > maxCompletionTime) {
+                    maxCompletionTime = matrix.bestTime(t);
+                    bestTask = t;
+                }
+            }
+            
+            int vmIndex = matrix.bestVM(bestTask);
+            double startTime = matrix.readyTime(vmIndex);
+            double finishTime = matrix.assign(bestTask, vmIndex);
+            assign(assignment, bestTask, vmIndex, startTime, finishTime);
+        }
+        
+        Assignments.logSummary(logger, "Max-Min", assignment);
+        return assignment;
+    }
+    
+    /**
+     * Records the assignment of task t to VM v.
+     */
+    private void assign(Assignment assignment, int t, int v, double startTime, double completionTime) {
+        assignment.record(t, v, startTime, completionTime);
+        Assignments.logAssignment(logger, assignment, t);
+    }
+    
+    @Override
+    public List<SchedulingResult> getResults() {
+        return new ArrayList<>(results);
+    }
+    
+    @Override
+    public void reset() {
+        results.clear();
+        resultMap.clear();
+    }
+}
@@ -1,8 +1,12 @@
 package com.cloudsim.qos.scheduler;
 
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -12,17 +16,33 @@ import java.util.*;
  * This module implements the Min-Min scheduling algorithm.
  * It assigns tasks to VMs by selecting the task with minimum execution time
  * and assigning it to the VM that gives minimum completion time.
+ * 
+ * Two engines produce the same assignment:
+ * - Indexed (default): consumes tasks from a length-ordered index with one
+ *   cursor per group of equal lengths and finds each task's earliest-finishing
+ *   VM through a {@link VmAvailabilityIndex}. Runs in O(T·log T) plus one
+ *   index query per examined task, typically O(log V).
+ * - Rescan: the original O(T²·V) loop over every unscheduled task-VM pair.
  */
 public class MinMinScheduler implements TaskScheduler {
     
+    private static final Logger logger = LoggerFactory.getLogger(MinMinScheduler.class);
+    
     private List<SchedulingResult> results;
     private Map<Integer, SchedulingResult> resultMap;
-    private Map<Integer, Double> vmCompletionTime;
+    private boolean indexed;
     
     public MinMinScheduler() {
+        this(true);
+    }
+    
+    /**
+     * @param indexed true for the indexed engine, false for the full rescan
+     */
+    public MinMinScheduler(boolean indexed) {
+        this.indexed = indexed;
         this.results = new ArrayList<>();
         this.resultMap = new HashMap<>();
-        this.vmCompletionTime = new HashMap<>();
     }
     
     @Override
@@ -38,91 +58,185 @@ public class MinMinScheduler implements TaskScheduler {
     
     @Override
     public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+    
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+    
+    /**
+     * Runs Min-Min over the table, recording every decision in a new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
         reset();
+        Assignment assignment = new Assignment(tasks, vms);
+        
+        logger.info("{}: scheduling {} tasks on {} VMs", getName(), tasks.size(), vms.size());
         
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("MIN-MIN SCHEDULING");
-        System.out.println("=".repeat(60));
-        System.out.println("Algorithm: " + getName());
-        System.out.println("Tasks: " + tasks.size() + ", VMs: " + vms.size());
+        // Initialize VM ready times, one slot per PE
+        VmTimeline timeline = new VmTimeline(vms);
         
-        // Initialize VM completion times
-        for (VirtualMachine vm : vms) {
-            vmCompletionTime.put(vm.getVmId(), 0.0);
+        if (indexed) {
+            scheduleIndexed(tasks, vms, timeline, assignment);
+        } else {
+            scheduleRescan(tasks, vms, timeline, assignment);
         }
         
-        // Create a list of unscheduled tasks
-        List<CloudTask> unscheduledTasks = new ArrayList<>(tasks);
+        Assignments.logSummary(logger, "Min-Min", assignment);
+        return assignment;
+    }
+    
+    /**
+     * Original Min-Min loop: rescans every unscheduled task-VM pair per round.
+     */
+    private void scheduleRescan(TaskTable tasks, List<VirtualMachine> vms, VmTimeline timeline,
+                                Assignment assignment) {
+        // Create a list of unscheduled task indices
+        List<Integer> unscheduledTasks = new ArrayList<>(tasks.size());
+        for (int t = 0; t < tasks.size(); t++) {
+            unscheduledTasks.add(t);
+        }
         
         while (!unscheduledTasks.isEmpty()) {
             // Find task-VM pair with minimum completion time
-            CloudTask bestTask = null;
-            VirtualMachine bestVM = null;
+            int bestPosition = -1;
+            int bestVM = -1;
             double minCompletionTime = Double.MAX_VALUE;
             
-            for (CloudTask task : unscheduledTasks) {
-                for (VirtualMachine vm : vms) {
-                    double executionTime = vm.calculateTotalTime(task.getTaskLength());
-                    double completionTime = vmCompletionTime.get(vm.getVmId()) + executionTime;
+            for (int i = 0; i < unscheduledTasks.size(); i++) {
+                long length = tasks.getTaskLength(unscheduledTasks.get(i));
+                for (int v = 0; v < vms.size(); v++) {
+                    VirtualMachine vm = vms.get(v);
+                    double executionTime = vm.calculateTotalTime(length);
+                    double completionTime = timeline.readyTime(v) + executionTime;
                     
                     if (completionTime < minCompletionTime) {
                         minCompletionTime = completionTime;
-                        bestTask = task;
-                        bestVM = vm;
+                        bestPosition = i;
+                        bestVM = v;
                     }
                 }
             }
             
-            if (bestTask != null && bestVM != null) {
-                // Create scheduling result
-                SchedulingResult result = new SchedulingResult(bestTask, bestVM);
-                
-                // Set timing information
-                double startTime = vmCompletionTime.get(bestVM.getVmId());
-                result.setStartTime(startTime);
-                result.setFinishTime(minCompletionTime);
-                
-                // Update VM completion time
-                vmCompletionTime.put(bestVM.getVmId(), minCompletionTime);
-                
-                // Update task
-                bestTask.setAssignedVmId(bestVM.getVmId());
-                bestTask.setEstimatedExecutionTime(result.getTotalTime());
-                bestTask.setEstimatedCost(result.getCost());
-                bestTask.setDeadlineMet(result.isDeadlineSatisfied());
-                bestTask.setBudgetMet(result.isBudgetSatisfied());
-                
-                results.add(result);
-                resultMap.put(bestTask.getTaskId(), result);
-                unscheduledTasks.remove(bestTask);
-                
-                System.out.println("Task " + bestTask.getTaskId() + " -> VM " + bestVM.getVmId() +
-                        " (Time: " + String.format("%.4f", result.getTotalTime()) + 
-                        "s, Cost: $" + String.format("%.4f", result.getCost()) + ")");
+            if (bestPosition >= 0 && bestVM >= 0) {
+                int bestTask = unscheduledTasks.remove(bestPosition);
+                assign(assignment, timeline, bestTask, bestVM, timeline.readyTime(bestVM), minCompletionTime);
             }
         }
-        
-        printSummary();
-        return resultMap;
     }
     
-    private void printSummary() {
-        double totalTime = 0, totalCost = 0;
-        int deadlinesMet = 0, budgetsMet = 0;
+    /**
+     * Indexed Min-Min.
+     * 
+     * A task's completion time on any VM is the VM's ready time plus
+     * length / MIPS plus latency, which never decreases with task length. The shortest
+     * unscheduled task therefore holds the minimum completion time on every
+     * VM, so tasks are sorted by length once and grouped by equal length.
+     * Tasks of equal length have equal completion times and the stable sort
+     * keeps them in index order, so only the front of each group is ever a
+     * candidate: each group keeps a cursor and exhausted groups are unlinked.
+     * Longer groups are only examined when they tie with the current minimum
+     * after rounding, and such ties resolve to the lowest task index, then the
+     * lowest VM index, matching the rescan order.
+     */
+    private void scheduleIndexed(TaskTable tasks, List<VirtualMachine> vms, VmTimeline timeline,
+                                 Assignment assignment) {
+        int numTasks = tasks.size();
+        int numVMs = vms.size();
+        if (numTasks == 0 || numVMs == 0) {
+            return;
+        }
+        
+        long[] lengths = tasks.getLengths();
+        int[] order = IndexSort.sort(numTasks, (a, b) -> Long.compare(lengths[a], lengths[b]));
+        
+        // Split the order into runs of equal length; groupStart[g + 1] ends group g
+        int[] groupStart = new int[numTasks + 1];
+        int numGroups = 0;
+        for (int i = 0; i < numTasks; i++) {
+            if (i == 0 || lengths[order[i]] != lengths[order[i - 1]]) {
+                groupStart[numGroups++] = i;
+            }
+        }
+        groupStart[numGroups] = numTasks;
         
-        for (SchedulingResult result : results) {
-            totalTime += result.getTotalTime();
-            totalCost += result.getCost();
-            if (result.isDeadlineSatisfied()) deadlinesMet++;
-            if (result.isBudgetSatisfied()) budgetsMet++;
+        // Next unscheduled position per group, and a linked list of non-empty groups
+        int[] cursor = Arrays.copyOf(groupStart, numGroups);
+        int[] nextGroup = new int[numGroups];
+        int[] prevGroup = new int[numGroups];
+        for (int g = 0; g < numGroups; g++) {
+            nextGroup[g] = g + 1 < numGroups ? g + 1 : -1;
+            prevGroup[g] = g - 1;
         }
+        int firstGroup = 0;
         
-        System.out.println("\n--- Min-Min Summary ---");
-        System.out.println("Total Time: " + String.format("%.4f", totalTime) + "s");
-        System.out.println("Total Cost: $" + String.format("%.4f", totalCost));
-        System.out.println("Deadlines Met: " + deadlinesMet + "/" + results.size());
-        System.out.println("Budgets Met: " + budgetsMet + "/" + results.size());
-        System.out.println("=".repeat(60) + "\n");
+        // Earliest-finishing VM lookups in O(log V) instead of a scan per task
+        VmAvailabilityIndex availability = new VmAvailabilityIndex(vms);
+        
+        for (int round = 0; round < numTasks; round++) {
+            // Minimum completion time is reached by the shortest unscheduled task
+            int bestGroup = firstGroup;
+            int bestTask = order[cursor[bestGroup]];
+            int bestVM = bestVM(lengths[bestTask], availability);
+            double minCompletionTime = timeline.readyTime(bestVM) + vms.get(bestVM).calculateTotalTime(lengths[bestTask]);
+            
+            // Longer tasks can only match it through rounding; prefer the lowest index
+            for (int g = nextGroup[firstGroup]; g >= 0; g = nextGroup[g]) {
+                int t = order[cursor[g]];
+                int v = bestVM(lengths[t], availability);
+                double completionTime = timeline.readyTime(v) + vms.get(v).calculateTotalTime(lengths[t]);
+                if (completionTime > minCompletionTime) {
+                    break;
+                }
+                if (t < bestTask) {
+                    bestGroup = g;
+                    bestTask = t;
+                    bestVM = v;
+                }
+            }
+            
+            assign(assignment, timeline, bestTask, bestVM, timeline.readyTime(bestVM), minCompletionTime);
+            availability.update(bestVM, timeline.readyTime(bestVM));
+            
+            // Unlink the group once its last task is scheduled
+            if (++cursor[bestGroup] == groupStart[bestGroup + 1]) {
+                int prev = prevGroup[bestGroup];
+                int next = nextGroup[bestGroup];
+                if (prev >= 0) {
+                    nextGroup[prev] = next;
+                } else {
+                    firstGroup = next;
+                }
+                if (next >= 0) {
+                    prevGroup[next] = prev;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the index of the VM giving the earliest completion time for a
+     * task, or 0 when no completion time is finite, as a linear scan would.
+     */
+    private int bestVM(long taskLength, VmAvailabilityIndex availability) {
+        int bestVM = availability.earliestFinish(taskLength);
+        return bestVM < 0 ? 0 : bestVM;
+    }
+    
+    /**
+     * Records the assignment of task t to VM v.
+     */
+    private void assign(Assignment assignment, VmTimeline timeline, int t, int v,
+                        double startTime, double completionTime) {
+        // Occupy the VM's earliest-free PE
+        timeline.assign(v, completionTime);
+        
+        assignment.record(t, v, startTime, completionTime);
+        Assignments.logAssignment(logger, assignment, t);
     }
     
     @Override
@@ -134,6 +248,13 @@ public class MinMinScheduler implements TaskScheduler {
     public void reset() {
         results.clear();
         resultMap.clear();
-        vmCompletionTime.clear();
+    }
+    
+    public boolean isIndexed() {
+        return indexed;
+    }
+    
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
     }
 }
@@ -0,0 +1,478 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.ParetoSolution;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * NSGA-II Pareto Scheduler
+ *
+ * Searches for the set of schedules that trade makespan, total cost and
+ * deadline misses against each other, instead of one schedule for fixed
+ * α/β weights. Plans are decoded as in the {@link GeneticScheduler} (see
+ * {@link PlanEvaluator}) and bred with the same crossover and mutation.
+ *
+ * Each generation breeds as many children as there are parents, by binary
+ * tournaments on (front rank, crowding distance), and evaluates them in
+ * parallel, each child with its own random stream. Parents and children
+ * are then sorted into non-dominated fronts with the fast non-dominated
+ * sort, and the next population is filled front by front, breaking the
+ * last front by crowding distance so the front stays spread out. The first
+ * population holds the QoS-aware, Min-Min and cheapest-VM plans, mutated
+ * copies of the QoS-aware plan and random plans.
+ *
+ * After the search, the first front of the population is kept, without
+ * duplicate objective vectors and sorted by makespan. The returned
+ * assignment is the front point with the lowest α·makespan + β·cost +
+ * deadline misses, each normalized to [0, 1] over the front. Any other
+ * point can be decoded with {@link #select(int)}.
+ */
+public class NsgaIIScheduler implements TaskScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(NsgaIIScheduler.class);
+
+    private static final int OBJECTIVES = 3;            // makespan, total cost, deadline misses
+    private static final double CROSSOVER_RATE = 0.9;
+    private static final long STREAM_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private SimulationConfig config;
+    private List<SchedulingResult> results;
+    private Map<Integer, SchedulingResult> resultMap;
+    private long seed;
+
+    // Front of the last run, and what is needed to decode its plans
+    private List<ParetoSolution> front;
+    private int selectedIndex;
+    private TaskTable lastTasks;
+    private List<VirtualMachine> lastVms;
+    private PlanEvaluator lastEvaluator;
+    private int generations;
+
+    public NsgaIIScheduler(SimulationConfig config) {
+        this(config, System.currentTimeMillis());
+    }
+
+    public NsgaIIScheduler(SimulationConfig config, long seed) {
+        this.config = config;
+        this.seed = seed;
+        this.results = new ArrayList<>();
+        this.resultMap = new HashMap<>();
+        this.front = new ArrayList<>();
+        this.selectedIndex = -1;
+    }
+
+    @Override
+    public String getName() {
+        return "NSGA-II Pareto Scheduler";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Evolves a Pareto front of task-to-VM plans over makespan, total cost and deadline misses " +
+               "within a " + config.getGaTimeBudgetMs() + " ms time budget, and returns the point favoured by " +
+               "α=" + config.getAlpha() + ", β=" + config.getBeta() + ".";
+    }
+
+    @Override
+    public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+
+    /**
+     * Evolves the front for the table and records its weighted choice in a
+     * new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
+        reset();
+        if (tasks.size() == 0 || vms.isEmpty()) {
+            Assignment assignment = new Assignment(tasks, vms);
+            assignment.setScoreWeights(config.getAlpha(), config.getBeta());
+            return assignment;
+        }
+
+        int populationSize = Math.max(4, config.getGaPopulationSize());
+        long deadline = System.nanoTime() + config.getGaTimeBudgetMs() * 1_000_000L;
+        logger.info("{}: scheduling {} tasks on {} VMs (population {}, up to {} generations, {} ms budget, seed {})",
+                getName(), tasks.size(), vms.size(), populationSize, config.getGaGenerations(),
+                config.getGaTimeBudgetMs(), seed);
+
+        PlanEvaluator evaluator = new PlanEvaluator(tasks, vms, config.getAlpha(), config.getBeta());
+        SplittableRandom random = new SplittableRandom(seed);
+
+        // Initial population: one plan near each end of the front, their neighbours and random plans
+        int[][] plans = new int[populationSize][];
+        plans[0] = evaluator.planOf(new QoSAwareScheduler(config).schedule(tasks, vms));
+        plans[1] = evaluator.planOf(new MinMinScheduler().schedule(tasks, vms));
+        plans[2] = new int[tasks.size()];
+        for (int t = 0; t < tasks.size(); t++) {
+            plans[2][t] = evaluator.cheapestVM(t);
+        }
+        for (int i = 3; i < populationSize; i++) {
+            if (i % 2 == 0) {
+                plans[i] = plans[0].clone();
+                GeneticScheduler.mutate(plans[i], vms.size(), random);
+            } else {
+                plans[i] = GeneticScheduler.randomPlan(tasks.size(), vms.size(), random);
+            }
+        }
+        double[][] objectives = new double[populationSize][OBJECTIVES];
+        int[][] initial = plans;
+        IntStream.range(0, populationSize).parallel()
+                .forEach(i -> evaluator.objectives(initial[i], objectives[i]));
+        Population population = survivors(plans, objectives, populationSize);
+
+        while (generations < config.getGaGenerations() && System.nanoTime() < deadline) {
+            population = nextGeneration(population, evaluator, random.nextLong());
+            generations++;
+        }
+
+        lastTasks = tasks;
+        lastVms = vms;
+        lastEvaluator = evaluator;
+        front = firstFront(population);
+        selectedIndex = weightedChoice(front, config.getAlpha(), config.getBeta());
+
+        Assignment assignment = decode(front.get(selectedIndex));
+        for (int k = 0; k < assignment.getAssignedCount(); k++) {
+            Assignments.logAssignment(logger, assignment, assignment.getTaskAt(k));
+        }
+
+        ParetoSolution chosen = front.get(selectedIndex);
+        logger.info("{}: {} generations, {} schedules on the front, chose makespan {} / cost ${} / {} deadline misses",
+                getName(), generations, front.size(), String.format("%.2f", chosen.getMakespan()),
+                String.format("%.4f", chosen.getTotalCost()), chosen.getDeadlineMisses());
+        Assignments.logSummary(logger, "NSGA-II", assignment);
+        return assignment;
+    }
+
+    /**
+     * Breeds and evaluates one set of children, then keeps the best half of
+     * parents and children.
+     */
+    private Population nextGeneration(Population parents, PlanEvaluator evaluator, long generationSeed) {
+        int populationSize = parents.plans.length;
+        int numVMs = evaluator.getNumVMs();
+
+        int[][] plans = Arrays.copyOf(parents.plans, 2 * populationSize);
+        double[][] objectives = Arrays.copyOf(parents.objectives, 2 * populationSize);
+
+        IntStream.range(0, populationSize).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(generationSeed + i * STREAM_STRIDE);
+            int[] first = parents.plans[tournament(parents, random)];
+            int[] second = parents.plans[tournament(parents, random)];
+
+            int[] child = random.nextDouble() < CROSSOVER_RATE
+                    ? GeneticScheduler.crossover(first, second, random) : first.clone();
+            GeneticScheduler.mutate(child, numVMs, random);
+
+            double[] childObjectives = new double[OBJECTIVES];
+            evaluator.objectives(child, childObjectives);
+            plans[populationSize + i] = child;
+            objectives[populationSize + i] = childObjectives;
+        });
+
+        return survivors(plans, objectives, populationSize);
+    }
+
+    /**
+     * Binary tournament: the lower front rank wins, then the larger crowding
+     * distance.
+     */
+    private static int tournament(Population population, SplittableRandom random) {
+        int size = population.plans.length;
+        int a = random.nextInt(size);
+        int b = random.nextInt(size);
+        if (population.rank[a] != population.rank[b]) {
+            return population.rank[a] < population.rank[b] ? a : b;
+        }
+        return population.crowding[b] > population.crowding[a] ? b : a;
+    }
+
+    /**
+     * Picks the best count candidates, front by front, and records their
+     * front ranks and crowding distances.
+     */
+    private static Population survivors(int[][] plans, double[][] objectives, int count) {
+        Population next = new Population(count);
+        int filled = 0;
+
+        for (int[] members : nondominatedSort(objectives)) {
+            if (filled == count) {
+                break;
+            }
+            double[] distance = crowdingDistance(members, objectives);
+            int[] order = IndexSort.sort(members.length, (a, b) -> Double.compare(distance[b], distance[a]));
+            int taken = Math.min(members.length, count - filled);
+            int rank = filled == 0 ? 0 : next.rank[filled - 1] + 1;
+
+            for (int k = 0; k < taken; k++) {
+                int i = members[order[k]];
+                next.plans[filled] = plans[i];
+                next.objectives[filled] = objectives[i];
+                next.rank[filled] = rank;
+                next.crowding[filled] = distance[order[k]];
+                filled++;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Deb's fast non-dominated sort: splits the points into fronts, where
+     * front k holds the points dominated only by points in earlier fronts.
+     * Points within a front are in index order.
+     */
+    static List<int[]> nondominatedSort(double[][] objectives) {
+        int n = objectives.length;
+        int[] dominatedByCount = new int[n];
+        int[][] dominatedSets = new int[n][];
+        int[] dominatedSizes = new int[n];
+
+        for (int p = 0; p < n; p++) {
+            for (int q = p + 1; q < n; q++) {
+                if (dominates(objectives[p], objectives[q])) {
+                    dominatedSets[p] = push(dominatedSets[p], dominatedSizes[p]++, q);
+                    dominatedByCount[q]++;
+                } else if (dominates(objectives[q], objectives[p])) {
+                    dominatedSets[q] = push(dominatedSets[q], dominatedSizes[q]++, p);
+                    dominatedByCount[p]++;
+                }
+            }
+        }
+
+        List<int[]> fronts = new ArrayList<>();
+        int[] current = IntStream.range(0, n).filter(p -> dominatedByCount[p] == 0).toArray();
+        while (current.length > 0) {
+            fronts.add(current);
+            int[] next = new int[n];
+            int size = 0;
+            for (int p : current) {
+                for (int k = 0; k < dominatedSizes[p]; k++) {
+                    int q = dominatedSets[p][k];
+                    if (--dominatedByCount[q] == 0) {
+                        next[size++] = q;
+                    }
+                }
+            }
+            current = Arrays.copyOf(next, size);
+            Arrays.sort(current);
+        }
+        return fronts;
+    }
+
+    private static int[] push(int[] set, int size, int value) {
+        if (set == null) {
+            set = new int[4];
+        } else if (size == set.length) {
+            set = Arrays.copyOf(set, size * 2);
+        }
+        set[size] = value;
+        return set;
+    }
+
+    /**
+     * Checks whether a is no worse than b in every objective and better in one.
+     */
+    static boolean dominates(double[] a, double[] b) {
+        boolean better = false;
+        for (int m = 0; m < a.length; m++) {
+            if (a[m] > b[m]) {
+                return false;
+            }
+            better |= a[m] < b[m];
+        }
+        return better;
+    }
+
+    /**
+     * Crowding distance of each front member: the normalized size of the box
+     * spanned by its neighbours along each objective. The extremes of every
+     * objective get an infinite distance so they are always kept.
+     */
+    static double[] crowdingDistance(int[] members, double[][] objectives) {
+        int size = members.length;
+        double[] distance = new double[size];
+        if (size <= 2) {
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            return distance;
+        }
+
+        for (int m = 0; m < OBJECTIVES; m++) {
+            int objective = m;
+            int[] order = IndexSort.sort(size, (a, b) ->
+                    Double.compare(objectives[members[a]][objective], objectives[members[b]][objective]));
+            double min = objectives[members[order[0]]][m];
+            double range = objectives[members[order[size - 1]]][m] - min;
+
+            distance[order[0]] = Double.POSITIVE_INFINITY;
+            distance[order[size - 1]] = Double.POSITIVE_INFINITY;
+            if (range <= 0) {
+                continue;
+            }
+            for (int k = 1; k < size - 1; k++) {
+                double gap = objectives[members[order[k + 1]]][m] - objectives[members[order[k - 1]]][m];
+                distance[order[k]] += gap / range;
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * The population's first front without duplicate objective vectors,
+     * sorted by makespan, then cost, then deadline misses.
+     */
+    private static List<ParetoSolution> firstFront(Population population) {
+        int[] members = IntStream.range(0, population.plans.length)
+                .filter(i -> population.rank[i] == 0)
+                .toArray();
+        int[] order = IndexSort.sort(members.length, (a, b) ->
+                Arrays.compare(population.objectives[members[a]], population.objectives[members[b]]));
+
+        List<ParetoSolution> solutions = new ArrayList<>();
+        double[] previous = null;
+        for (int k : order) {
+            int i = members[k];
+            double[] objectives = population.objectives[i];
+            if (previous != null && Arrays.equals(previous, objectives)) {
+                continue;
+            }
+            solutions.add(new ParetoSolution(population.plans[i], objectives[0], objectives[1], (int) objectives[2]));
+            previous = objectives;
+        }
+        return solutions;
+    }
+
+    /**
+     * Index of the front point with the lowest α·makespan + β·cost +
+     * deadline misses, each normalized over the front. Ties go to the
+     * lower makespan.
+     */
+    static int weightedChoice(List<ParetoSolution> front, double alpha, double beta) {
+        double[][] values = new double[front.size()][];
+        for (int i = 0; i < front.size(); i++) {
+            ParetoSolution solution = front.get(i);
+            values[i] = new double[] {solution.getMakespan(), solution.getTotalCost(), solution.getDeadlineMisses()};
+        }
+        double[] weights = {alpha, beta, 1};
+        double[] min = new double[OBJECTIVES];
+        double[] range = new double[OBJECTIVES];
+        for (int m = 0; m < OBJECTIVES; m++) {
+            double low = Double.POSITIVE_INFINITY, high = Double.NEGATIVE_INFINITY;
+            for (double[] value : values) {
+                low = Math.min(low, value[m]);
+                high = Math.max(high, value[m]);
+            }
+            min[m] = low;
+            range[m] = high - low;
+        }
+
+        int best = 0;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < values.length; i++) {
+            double score = 0;
+            for (int m = 0; m < OBJECTIVES; m++) {
+                if (range[m] > 0) {
+                    score += weights[m] * (values[i][m] - min[m]) / range[m];
+                }
+            }
+            if (score < bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private Assignment decode(ParetoSolution solution) {
+        Assignment assignment = new Assignment(lastTasks, lastVms);
+        assignment.setScoreWeights(config.getAlpha(), config.getBeta());
+        lastEvaluator.record(solution.getPlan(), assignment);
+        return assignment;
+    }
+
+    /**
+     * Makes another point of the last run's front the selected one.
+     * @param index Position in {@link #getParetoFront()}
+     * @return A new assignment holding that point's plan
+     */
+    public Assignment select(int index) {
+        if (index < 0 || index >= front.size()) {
+            throw new IndexOutOfBoundsException("No schedule " + index + " on a front of " + front.size());
+        }
+        selectedIndex = index;
+        return decode(front.get(index));
+    }
+
+    @Override
+    public List<SchedulingResult> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    @Override
+    public void reset() {
+        results.clear();
+        resultMap.clear();
+        front = new ArrayList<>();
+        selectedIndex = -1;
+        lastTasks = null;
+        lastVms = null;
+        lastEvaluator = null;
+        generations = 0;
+    }
+
+    /**
+     * Non-dominated schedules of the last run, by increasing makespan.
+     */
+    public List<ParetoSolution> getParetoFront() {
+        return Collections.unmodifiableList(front);
+    }
+
+    /**
+     * Position of the selected schedule on the front, or -1 before a run.
+     */
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Plans of one generation with their objectives, front ranks and
+     * crowding distances.
+     */
+    private static class Population {
+        final int[][] plans;
+        final double[][] objectives;
+        final int[] rank;
+        final double[] crowding;
+
+        Population(int size) {
+            this.plans = new int[size][];
+            this.objectives = new double[size][];
+            this.rank = new int[size];
+            this.crowding = new double[size];
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Event-driven online scheduling engine.
+ * 
+ * Unlike the batch schedulers, which treat every task as available at t=0,
+ * tasks here become visible at their arrival time. Arrived tasks wait in a
+ * FIFO queue and are dispatched as soon as a VM has a free PE, either on
+ * arrival or when a running task finishes. A VM with several PEs runs that
+ * many tasks at once, as in the batch schedulers' {@link VmTimeline}. The VM
+ * is chosen by the dispatch policy of a wrapped {@link TaskScheduler}, so
+ * every existing algorithm can run online.
+ * 
+ * Arrivals are consumed in arrival order from a pre-sorted index, and only
+ * completion events are kept in a priority queue (one per running task, so
+ * at most one per PE), so the event queue stays as small as the PE count
+ * regardless of how many tasks arrive.
+ * 
+ * Deadline and budget checks keep the batch meaning (service time against
+ * the deadline), so online and batch results stay comparable. Queueing
+ * delay shows up as waiting time (start - arrival).
+ */
+public class OnlineScheduler implements TaskScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OnlineScheduler.class);
+    
+    private final TaskScheduler policySource;
+    private List<SchedulingResult> results;
+    private Map<Integer, SchedulingResult> resultMap;
+    
+    // Idle VM set (VMs with a free PE): dense list of VM indices with position lookup for O(1) removal
+    private int[] idle;
+    private int[] idlePosition;
+    private int idleCount;
+    private int[] freePes;
+    
+    // Completion events: binary min-heap of (finish time, VM index), one entry per running task
+    private double[] heapTime;
+    private int[] heapVm;
+    private int heapSize;
+    
+    public OnlineScheduler(TaskScheduler policySource) {
+        this.policySource = policySource;
+        this.results = new ArrayList<>();
+        this.resultMap = new HashMap<>();
+    }
+    
+    @Override
+    public String getName() {
+        return "Online " + policySource.getName();
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Dispatches tasks as they arrive or as VMs become free, using the VM selection rule of " +
+               policySource.getName() + ". Waiting time is measured from each task's arrival.";
+    }
+    
+    @Override
+    public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        reset();
+        
+        logger.info("{}: scheduling {} tasks on {} VMs", getName(), tasks.size(), vms.size());
+        
+        int numTasks = tasks.size();
+        int numVMs = vms.size();
+        if (numTasks == 0 || numVMs == 0) {
+            return resultMap;
+        }
+        
+        DispatchPolicy policy = policySource.getDispatchPolicy();
+        
+        // Arrival order (stable, so simultaneous arrivals keep their list order)
+        double[] arrival = new double[numTasks];
+        for (int t = 0; t < numTasks; t++) {
+            arrival[t] = tasks.get(t).getArrivalTime();
+        }
+        int[] order = IndexSort.sort(numTasks, (a, b) -> Double.compare(arrival[a], arrival[b]));
+        
+        idle = new int[numVMs];
+        idlePosition = new int[numVMs];
+        freePes = new int[numVMs];
+        int totalPes = 0;
+        for (int v = 0; v < numVMs; v++) {
+            idle[v] = v;
+            idlePosition[v] = v;
+            freePes[v] = Math.max(1, vms.get(v).getNumberOfPes());
+            totalPes += freePes[v];
+        }
+        idleCount = numVMs;
+        heapTime = new double[totalPes];
+        heapVm = new int[totalPes];
+        heapSize = 0;
+        
+        // Queued tasks are order[head..arrived), since dispatch is FIFO in arrival order
+        int head = 0, arrived = 0;
+        double now = 0;
+        
+        while (head < numTasks) {
+            while (head < arrived && idleCount > 0) {
+                dispatch(tasks.get(order[head++]), vms, policy, now);
+            }
+            if (head == numTasks) {
+                break;
+            }
+            
+            double nextArrival = arrived < numTasks ? arrival[order[arrived]] : Double.POSITIVE_INFINITY;
+            double nextFree = heapSize > 0 ? heapTime[0] : Double.POSITIVE_INFINITY;
+            
+            // Completions first, so a task arriving at the same instant sees the freed PE
+            if (heapSize > 0 && nextFree <= nextArrival) {
+                now = Math.max(now, nextFree);
+                releasePe(pollCompletion());
+            } else {
+                now = Math.max(now, nextArrival);
+                arrived++;
+            }
+        }
+        
+        printSummary();
+        return resultMap;
+    }
+    
+    private void dispatch(CloudTask task, List<VirtualMachine> vms, DispatchPolicy policy, double now) {
+        int v = policy.selectVM(task, vms, idle, idleCount, now);
+        if (v < 0 || v >= vms.size() || idlePosition[v] < 0) {
+            throw new IllegalStateException(getName() + ": dispatch policy chose VM index " + v +
+                    " which is not idle");
+        }
+        
+        VirtualMachine vm = vms.get(v);
+        SchedulingResult result = new SchedulingResult(task, vm);
+        result.setStartTime(now);
+        result.setFinishTime(now + result.getTotalTime());
+        
+        results.add(result);
+        resultMap.put(task.getTaskId(), result);
+        
+        acquirePe(v);
+        addCompletion(v, result.getFinishTime());
+        
+        if (logger.isDebugEnabled()) {
+            logger.debug("t={}: Task {} -> VM {} (Waited: {}s, Time: {}s, Cost: ${})",
+                    String.format("%.4f", now), task.getTaskId(), vm.getVmId(),
+                    String.format("%.4f", now - task.getArrivalTime()),
+                    String.format("%.4f", result.getTotalTime()), String.format("%.4f", result.getCost()));
+        }
+    }
+    
+    /**
+     * Occupies one PE of VM v; the VM leaves the idle set with its last free PE.
+     */
+    private void acquirePe(int v) {
+        if (--freePes[v] > 0) {
+            return;
+        }
+        int position = idlePosition[v];
+        int last = idle[--idleCount];
+        idle[position] = last;
+        idlePosition[last] = position;
+        idlePosition[v] = -1;
+    }
+    
+    /**
+     * Frees one PE of VM v; the VM rejoins the idle set with its first free PE.
+     */
+    private void releasePe(int v) {
+        if (freePes[v]++ > 0) {
+            return;
+        }
+        idle[idleCount] = v;
+        idlePosition[v] = idleCount++;
+    }
+    
+    private void addCompletion(int v, double time) {
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(time, v, heapTime[parent], heapVm[parent])) {
+                break;
+            }
+            heapTime[i] = heapTime[parent];
+            heapVm[i] = heapVm[parent];
+            i = parent;
+        }
+        heapTime[i] = time;
+        heapVm[i] = v;
+    }
+    
+    /**
+     * Removes the earliest completion and returns its VM index.
+     */
+    private int pollCompletion() {
+        int top = heapVm[0];
+        double lastTime = heapTime[--heapSize];
+        int lastVm = heapVm[heapSize];
+        int i = 0;
+        while (true) {
+            int child = (i << 1) + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize
+                    && before(heapTime[child + 1], heapVm[child + 1], heapTime[child], heapVm[child])) {
+                child++;
+            }
+            if (!before(heapTime[child], heapVm[child], lastTime, lastVm)) {
+                break;
+            }
+            heapTime[i] = heapTime[child];
+            heapVm[i] = heapVm[child];
+            i = child;
+        }
+        if (heapSize > 0) {
+            heapTime[i] = lastTime;
+            heapVm[i] = lastVm;
+        }
+        return top;
+    }
+    
+    /**
+     * Completion order: earlier finish first, lower VM index on ties.
+     */
+    private static boolean before(double timeA, int vmA, double timeB, int vmB) {
+        return timeA < timeB || (timeA == timeB && vmA < vmB);
+    }
+    
+    private void printSummary() {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        
+        double totalWait = 0, maxWait = 0, makespan = 0;
+        int deadlinesMet = 0, budgetsMet = 0;
+        
+        for (SchedulingResult result : results) {
+            double wait = result.getStartTime() - result.getTask().getArrivalTime();
+            totalWait += wait;
+            maxWait = Math.max(maxWait, wait);
+            makespan = Math.max(makespan, result.getFinishTime());
+            if (result.isDeadlineSatisfied()) deadlinesMet++;
+            if (result.isBudgetSatisfied()) budgetsMet++;
+        }
+        
+        logger.info("Online Summary: Makespan: {}s, Avg Wait: {}s, Max Wait: {}s, Deadlines Met: {}/{}, Budgets Met: {}/{}",
+                String.format("%.4f", makespan), String.format("%.4f", totalWait / results.size()),
+                String.format("%.4f", maxWait), deadlinesMet, results.size(), budgetsMet, results.size());
+    }
+    
+    public TaskScheduler getPolicySource() {
+        return policySource;
+    }
+    
+    @Override
+    public List<SchedulingResult> getResults() {
+        return new ArrayList<>(results);
+    }
+    
+    @Override
+    public void reset() {
+        results.clear();
+        resultMap.clear();
+        idleCount = 0;
+        heapSize = 0;
+    }
+}
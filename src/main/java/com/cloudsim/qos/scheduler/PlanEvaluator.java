@@ -0,0 +1,169 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.Assignment;
+import com.cloudsim.qos.model.TaskTable;
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.List;
+
+/**
+ * Decodes and scores complete task-to-VM plans for the search-based
+ * schedulers.
+ *
+ * A plan is an int[] holding the VM index of every task. Decoding replays
+ * the tasks in the QoS-aware priority order (priority, then deadline) on a
+ * {@link VmTimeline}, so each task starts on its VM's earliest-free PE, as
+ * in the greedy schedulers. Decoding is read-only on shared state and can
+ * run on any number of threads at once.
+ *
+ * The QoS objective is the α/β score of
+ * {@link com.cloudsim.qos.model.SchedulingResult#calculateQoSScore}, summed
+ * over the tasks. The time term and the deadline penalty use each task's
+ * completion time in the plan (queueing plus execution) instead of its
+ * execution time alone. Otherwise the score would not depend on how the
+ * plan spreads tasks, and the best plan would send every task to its
+ * individually best VM.
+ *
+ * The multi-objective schedulers instead read the plan's makespan, total
+ * cost and number of tasks finishing after their deadline, decoded the
+ * same way.
+ */
+final class PlanEvaluator {
+
+    private final TaskTable tasks;
+    private final List<VirtualMachine> vms;
+    private final double alpha;
+    private final double beta;
+    private final int[] order;
+
+    private final double[] mips;
+    private final double[] latencies;
+    private final double[] costsPerSecond;
+
+    PlanEvaluator(TaskTable tasks, List<VirtualMachine> vms, double alpha, double beta) {
+        this.tasks = tasks;
+        this.vms = vms;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.order = QoSAwareScheduler.priorityOrder(tasks);
+
+        int numVMs = vms.size();
+        this.mips = new double[numVMs];
+        this.latencies = new double[numVMs];
+        this.costsPerSecond = new double[numVMs];
+        for (int v = 0; v < numVMs; v++) {
+            VirtualMachine vm = vms.get(v);
+            mips[v] = vm.getMips();
+            latencies[v] = vm.getNetworkLatency();
+            costsPerSecond[v] = vm.getCostPerSecond();
+        }
+    }
+
+    /**
+     * Sum of the tasks' QoS scores under the plan; lower is better.
+     */
+    double qosFitness(int[] plan) {
+        long[] lengths = tasks.getLengths();
+        double[] deadlines = tasks.getDeadlines();
+        double[] budgets = tasks.getBudgets();
+        VmTimeline timeline = new VmTimeline(vms);
+        double fitness = 0;
+
+        for (int t : order) {
+            int v = plan[t];
+            // Same arithmetic as VirtualMachine.calculateTotalTime / calculateExecutionCost
+            double executionTime = (double) lengths[t] / mips[v];
+            double finish = timeline.readyTime(v) + (executionTime + latencies[v]);
+            double cost = executionTime * costsPerSecond[v];
+            timeline.assign(v, finish);
+
+            fitness += alpha * (finish / deadlines[t]) + beta * (cost / budgets[t]);
+            if (finish > deadlines[t]) {
+                fitness += (finish - deadlines[t]) * 10;
+            }
+            if (cost > budgets[t]) {
+                fitness += (cost - budgets[t]) * 10;
+            }
+        }
+        return fitness;
+    }
+
+    /**
+     * Writes the plan's makespan, total cost and number of tasks completing
+     * after their deadline to out[0..2]; lower is better for all three.
+     */
+    void objectives(int[] plan, double[] out) {
+        long[] lengths = tasks.getLengths();
+        double[] deadlines = tasks.getDeadlines();
+        VmTimeline timeline = new VmTimeline(vms);
+        double makespan = 0, totalCost = 0;
+        int deadlineMisses = 0;
+
+        for (int t : order) {
+            int v = plan[t];
+            double executionTime = (double) lengths[t] / mips[v];
+            double finish = timeline.readyTime(v) + (executionTime + latencies[v]);
+            timeline.assign(v, finish);
+
+            makespan = Math.max(makespan, finish);
+            totalCost += executionTime * costsPerSecond[v];
+            if (finish > deadlines[t]) {
+                deadlineMisses++;
+            }
+        }
+
+        out[0] = makespan;
+        out[1] = totalCost;
+        out[2] = deadlineMisses;
+    }
+
+    /**
+     * Index of the VM with the lowest cost for a task.
+     */
+    int cheapestVM(int t) {
+        long length = tasks.getTaskLength(t);
+        int best = 0;
+        double bestCost = Double.MAX_VALUE;
+        for (int v = 0; v < mips.length; v++) {
+            double cost = (double) length / mips[v] * costsPerSecond[v];
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Extracts the plan of an assignment that covers every task.
+     */
+    int[] planOf(Assignment assignment) {
+        int[] plan = new int[tasks.size()];
+        for (int t = 0; t < plan.length; t++) {
+            plan[t] = assignment.getVmIndex(t);
+        }
+        return plan;
+    }
+
+    /**
+     * Replays a plan into an assignment, in decoding order.
+     */
+    void record(int[] plan, Assignment assignment) {
+        VmTimeline timeline = new VmTimeline(vms);
+        for (int t : order) {
+            int v = plan[t];
+            double start = timeline.readyTime(v);
+            double finish = start + vms.get(v).calculateTotalTime(tasks.getTaskLength(t));
+            timeline.assign(v, finish);
+            assignment.record(t, v, start, finish);
+        }
+    }
+
+    int getNumTasks() {
+        return tasks.size();
+    }
+
+    int getNumVMs() {
+        return vms.size();
+    }
+}
@@ -1,10 +1,14 @@
 package com.cloudsim.qos.scheduler;
 
 import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
 import com.cloudsim.qos.profiling.TaskProfilingModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -19,14 +23,21 @@ import java.util.*;
  */
 public class QoSAwareScheduler implements TaskScheduler {
     
+    private static final Logger logger = LoggerFactory.getLogger(QoSAwareScheduler.class);
+    
     private TaskProfilingModule profilingModule;
     private SimulationConfig config;
     private List<SchedulingResult> results;
     private Map<Integer, SchedulingResult> resultMap;
     
-    // VM load tracking for load balancing
-    private Map<Integer, Double> vmLoadTime;
-    private Map<Integer, Integer> vmTaskCount;
+    // VM load tracking for load balancing, indexed like the VM list
+    private VmTimeline timeline;
+    private double[] vmBusyTimes;
+    private double[] vmLoadFactors;
+    private int[] vmTaskCounts;
+    
+    // Pareto candidates for VM selection, null when pruning is disabled
+    private VmFrontier frontier;
     
     // Statistics
     private int totalTasksScheduled;
@@ -39,8 +50,9 @@ public class QoSAwareScheduler implements TaskScheduler {
         this.profilingModule = new TaskProfilingModule();
         this.results = new ArrayList<>();
         this.resultMap = new HashMap<>();
-        this.vmLoadTime = new HashMap<>();
-        this.vmTaskCount = new HashMap<>();
+        this.vmBusyTimes = new double[0];
+        this.vmLoadFactors = new double[0];
+        this.vmTaskCounts = new int[0];
     }
     
     @Override
@@ -57,167 +69,169 @@ public class QoSAwareScheduler implements TaskScheduler {
     
     @Override
     public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+    
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+    
+    /**
+     * Runs QoS-aware scheduling over the table, recording every decision in a
+     * new assignment scored with the configured weights.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
         reset();
+        Assignment assignment = new Assignment(tasks, vms);
+        assignment.setScoreWeights(config.getAlpha(), config.getBeta());
         
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("QoS-AWARE SCHEDULING ENGINE");
-        System.out.println("=".repeat(60));
-        System.out.println("Algorithm: " + getName());
-        System.out.println("Tasks: " + tasks.size() + ", VMs: " + vms.size());
-        System.out.println("Weights: α=" + config.getAlpha() + " (time), β=" + config.getBeta() + " (cost)");
+        logger.info("{}: scheduling {} tasks on {} VMs (α={} time, β={} cost)",
+                getName(), tasks.size(), vms.size(), config.getAlpha(), config.getBeta());
         
         // Initialize profiling
+        profilingModule.setParallel(config.isParallelProfiling());
+        profilingModule.setLazy(config.isLazyProfiling());
+        profilingModule.setVectorized(config.isVectorScoring());
         profilingModule.initialize(tasks, vms);
         profilingModule.profileAllTasks();
         profilingModule.calculateQoSScores(config.getAlpha(), config.getBeta());
         
         // Initialize VM load tracking
-        for (VirtualMachine vm : vms) {
-            vmLoadTime.put(vm.getVmId(), 0.0);
-            vmTaskCount.put(vm.getVmId(), 0);
+        timeline = new VmTimeline(vms);
+        vmBusyTimes = new double[vms.size()];
+        vmLoadFactors = new double[vms.size()];
+        vmTaskCounts = new int[vms.size()];
+        Arrays.fill(vmLoadFactors, 1.0);
+        if (config.isVmPruning()) {
+            frontier = new VmFrontier(vms, profilingModule, vmLoadFactors, config.getAlpha(), config.getBeta());
+            logger.debug("VM frontier: {} of {} VMs", frontier.getFrontierSize(), vms.size());
         }
         
-        // Sort tasks by priority (higher priority first) then by deadline (earliest first)
-        List<CloudTask> sortedTasks = new ArrayList<>(tasks);
-        sortedTasks.sort((t1, t2) -> {
-            int priorityCompare = Integer.compare(t2.getPriority(), t1.getPriority());
-            if (priorityCompare != 0) return priorityCompare;
-            return Double.compare(t1.getDeadline(), t2.getDeadline());
-        });
+        // Order task indices by priority (higher priority first) then by deadline (earliest first)
+        int[] order = priorityOrder(tasks);
         
-        System.out.println("\nScheduling tasks in priority order...\n");
+        logger.debug("Scheduling tasks in priority order...");
         
         // Schedule each task
-        for (CloudTask task : sortedTasks) {
-            int taskIndex = findTaskIndex(tasks, task);
-            SchedulingResult result = scheduleTask(taskIndex, task, vms);
+        for (int taskIndex : order) {
+            int vmIndex = selectVM(taskIndex, tasks);
+            if (vmIndex < 0) {
+                logger.warn("Task {}: FAILED to schedule task!", tasks.getTaskId(taskIndex));
+                continue;
+            }
             
-            if (result != null) {
-                results.add(result);
-                resultMap.put(task.getTaskId(), result);
-                updateStatistics(result);
-                
-                // Update VM load
-                VirtualMachine assignedVM = result.getVm();
-                double newLoad = vmLoadTime.get(assignedVM.getVmId()) + result.getTotalTime();
-                vmLoadTime.put(assignedVM.getVmId(), newLoad);
-                vmTaskCount.put(assignedVM.getVmId(), vmTaskCount.get(assignedVM.getVmId()) + 1);
+            // Set timing information
+            VirtualMachine assignedVM = vms.get(vmIndex);
+            double startTime = timeline.readyTime(vmIndex);
+            double finishTime = startTime + assignedVM.calculateTotalTime(tasks.getTaskLength(taskIndex));
+            
+            assignment.record(taskIndex, vmIndex, startTime, finishTime);
+            updateStatistics(assignment, taskIndex);
+            
+            if (logger.isDebugEnabled()) {
+                logger.debug("  -> Assigned to VM {} (Time: {}s, Cost: ${}, QoS: {})", assignedVM.getVmId(),
+                        String.format("%.4f", assignment.getTotalTime(taskIndex)),
+                        String.format("%.4f", assignment.getCost(taskIndex)),
+                        assignment.isQoSMet(taskIndex) ? "Satisfied" : "Violated");
+            }
+            
+            // Update VM load; the load factor follows the earliest-free PE
+            timeline.assign(vmIndex, finishTime);
+            vmBusyTimes[vmIndex] += assignment.getTotalTime(taskIndex);
+            vmLoadFactors[vmIndex] = 1.0 + (timeline.readyTime(vmIndex) / 100.0);  // Penalize loaded VMs
+            vmTaskCounts[vmIndex]++;
+            if (frontier != null) {
+                frontier.loadChanged(vmIndex);
             }
         }
         
-        printSchedulingResults();
-        return resultMap;
+        printSchedulingResults(assignment);
+        return assignment;
     }
     
     /**
-     * Schedules a single task using QoS-aware algorithm.
+     * Selects the VM for a single task using the QoS-aware algorithm.
+     * @return The VM index, or -1 if there is none
      */
-    private SchedulingResult scheduleTask(int taskIndex, CloudTask task, List<VirtualMachine> vms) {
-        System.out.println("Scheduling Task " + task.getTaskId() + 
-                " (Length: " + task.getTaskLength() + " MI, Deadline: " + task.getDeadline() + 
-                "s, Budget: $" + task.getBudget() + ", Priority: " + task.getPriority() + ")");
+    private int selectVM(int taskIndex, TaskTable tasks) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Scheduling Task {} (Length: {} MI, Deadline: {}s, Budget: ${}, Priority: {})",
+                    tasks.getTaskId(taskIndex), tasks.getTaskLength(taskIndex), tasks.getDeadline(taskIndex),
+                    tasks.getBudget(taskIndex), tasks.getPriority(taskIndex));
+        }
         
         // Find best VM considering QoS score and current load
-        int bestVMIndex = -1;
-        double bestScore = Double.MAX_VALUE;
-        
         // First pass: try to find a feasible VM
-        for (int v = 0; v < vms.size(); v++) {
-            VirtualMachine vm = vms.get(v);
-            
-            // Check feasibility
-            boolean deadlineFeasible = profilingModule.canMeetDeadline(taskIndex, v);
-            boolean budgetFeasible = profilingModule.canMeetBudget(taskIndex, v);
-            
-            if (config.isEnableDeadlineConstraint() && !deadlineFeasible) {
-                continue;
-            }
-            if (config.isEnableBudgetConstraint() && !budgetFeasible) {
-                continue;
-            }
-            
-            // Calculate combined score with load balancing
-            double qosScore = profilingModule.getQoSScore(taskIndex, v);
-            double loadFactor = 1.0 + (vmLoadTime.get(vm.getVmId()) / 100.0);  // Penalize loaded VMs
-            double combinedScore = qosScore * loadFactor;
-            
-            if (combinedScore < bestScore) {
-                bestScore = combinedScore;
-                bestVMIndex = v;
-            }
-        }
+        int bestVMIndex = findBestVM(taskIndex, tasks,
+                config.isEnableDeadlineConstraint(), config.isEnableBudgetConstraint());
         
         // Second pass: if no feasible VM found, relax constraints
         if (bestVMIndex < 0) {
-            System.out.println("  -> No feasible VM found, relaxing constraints...");
-            
-            for (int v = 0; v < vms.size(); v++) {
-                VirtualMachine vm = vms.get(v);
-                double qosScore = profilingModule.getQoSScore(taskIndex, v);
-                double loadFactor = 1.0 + (vmLoadTime.get(vm.getVmId()) / 100.0);
-                double combinedScore = qosScore * loadFactor;
-                
-                if (combinedScore < bestScore) {
-                    bestScore = combinedScore;
-                    bestVMIndex = v;
-                }
-            }
+            logger.debug("  -> No feasible VM found, relaxing constraints...");
+            bestVMIndex = findBestVM(taskIndex, tasks, false, false);
         }
         
-        // Create scheduling result
-        if (bestVMIndex >= 0) {
-            VirtualMachine bestVM = vms.get(bestVMIndex);
-            SchedulingResult result = new SchedulingResult(task, bestVM);
-            result.calculateQoSScore(config.getAlpha(), config.getBeta());
-            
-            // Set timing information
-            double startTime = vmLoadTime.get(bestVM.getVmId());
-            result.setStartTime(startTime);
-            result.setFinishTime(startTime + result.getTotalTime());
-            
-            // Update task with assignment info
-            task.setAssignedVmId(bestVM.getVmId());
-            task.setEstimatedExecutionTime(result.getTotalTime());
-            task.setEstimatedCost(result.getCost());
-            task.setDeadlineMet(result.isDeadlineSatisfied());
-            task.setBudgetMet(result.isBudgetSatisfied());
-            
-            System.out.println("  -> Assigned to VM " + bestVM.getVmId() + 
-                    " (Time: " + String.format("%.4f", result.getTotalTime()) + 
-                    "s, Cost: $" + String.format("%.4f", result.getCost()) +
-                    ", QoS: " + (result.isQoSSatisfied() ? "Satisfied" : "Violated") + ")");
-            
-            return result;
+        return bestVMIndex;
+    }
+    
+    /**
+     * Lowest QoS score × load factor among the qualifying VMs, through the
+     * Pareto frontier when pruning is enabled. Both paths pick the same VM.
+     */
+    private int findBestVM(int taskIndex, TaskTable tasks, boolean requireDeadline, boolean requireBudget) {
+        if (frontier != null) {
+            return frontier.findBestVM(taskIndex, tasks.getDeadline(taskIndex), tasks.getBudget(taskIndex),
+                    tasks.getPriority(taskIndex), requireDeadline, requireBudget);
         }
-        
-        System.out.println("  -> FAILED to schedule task!");
-        return null;
+        return profilingModule.findBestVM(taskIndex, vmLoadFactors, requireDeadline, requireBudget);
     }
     
     /**
-     * Finds the index of a task in the original list.
+     * Returns the task indices ordered by priority (descending), then deadline
+     * (ascending). The sort is stable and keeps each task's original index,
+     * so no lookup is needed afterwards.
      */
-    private int findTaskIndex(List<CloudTask> tasks, CloudTask target) {
-        for (int i = 0; i < tasks.size(); i++) {
-            if (tasks.get(i).getTaskId() == target.getTaskId()) {
-                return i;
-            }
+    public static int[] priorityOrder(List<CloudTask> tasks) {
+        int n = tasks.size();
+        int[] priorities = new int[n];
+        double[] deadlines = new double[n];
+        for (int i = 0; i < n; i++) {
+            priorities[i] = tasks.get(i).getPriority();
+            deadlines[i] = tasks.get(i).getDeadline();
         }
-        return -1;
+        return priorityOrder(n, priorities, deadlines);
+    }
+    
+    /**
+     * Same order as {@link #priorityOrder(List)}, read from the table's columns.
+     */
+    public static int[] priorityOrder(TaskTable tasks) {
+        return priorityOrder(tasks.size(), tasks.getPriorities(), tasks.getDeadlines());
+    }
+    
+    private static int[] priorityOrder(int n, int[] priorities, double[] deadlines) {
+        return IndexSort.sort(n, (a, b) -> {
+            int priorityCompare = Integer.compare(priorities[b], priorities[a]);
+            if (priorityCompare != 0) return priorityCompare;
+            return Double.compare(deadlines[a], deadlines[b]);
+        });
     }
     
     /**
      * Updates scheduling statistics.
      */
-    private void updateStatistics(SchedulingResult result) {
+    private void updateStatistics(Assignment assignment, int taskIndex) {
         totalTasksScheduled++;
-        if (result.isQoSSatisfied()) {
+        if (assignment.isQoSMet(taskIndex)) {
             tasksWithQoSSatisfied++;
         }
-        if (result.isDeadlineSatisfied()) {
+        if (assignment.isDeadlineMet(taskIndex)) {
             deadlinesMet++;
         }
-        if (result.isBudgetSatisfied()) {
+        if (assignment.isBudgetMet(taskIndex)) {
             budgetsMet++;
         }
     }
@@ -225,40 +239,36 @@ public class QoSAwareScheduler implements TaskScheduler {
     /**
      * Prints the scheduling results summary.
      */
-    private void printSchedulingResults() {
-        System.out.println("\n" + "-".repeat(60));
-        System.out.println("SCHEDULING SUMMARY");
-        System.out.println("-".repeat(60));
-        
-        System.out.println("Total Tasks Scheduled: " + totalTasksScheduled);
-        System.out.println("QoS Satisfied: " + tasksWithQoSSatisfied + 
-                " (" + String.format("%.1f%%", (tasksWithQoSSatisfied * 100.0 / totalTasksScheduled)) + ")");
-        System.out.println("Deadlines Met: " + deadlinesMet +
-                " (" + String.format("%.1f%%", (deadlinesMet * 100.0 / totalTasksScheduled)) + ")");
-        System.out.println("Budgets Met: " + budgetsMet +
-                " (" + String.format("%.1f%%", (budgetsMet * 100.0 / totalTasksScheduled)) + ")");
+    private void printSchedulingResults(Assignment assignment) {
+        if (!logger.isInfoEnabled() || totalTasksScheduled == 0) {
+            return;
+        }
         
         // Calculate totals
         double totalTime = 0, totalCost = 0;
-        for (SchedulingResult result : results) {
-            totalTime += result.getTotalTime();
-            totalCost += result.getCost();
+        for (int k = 0; k < assignment.getAssignedCount(); k++) {
+            int t = assignment.getTaskAt(k);
+            totalTime += assignment.getTotalTime(t);
+            totalCost += assignment.getCost(t);
         }
         
-        System.out.println("\nTotal Execution Time: " + String.format("%.4f", totalTime) + " seconds");
-        System.out.println("Total Cost: $" + String.format("%.4f", totalCost));
-        System.out.println("Average Time per Task: " + String.format("%.4f", totalTime / totalTasksScheduled) + " seconds");
-        System.out.println("Average Cost per Task: $" + String.format("%.4f", totalCost / totalTasksScheduled));
+        logger.info("Scheduling Summary: {} tasks, QoS Satisfied: {} ({}), Deadlines Met: {} ({}), Budgets Met: {} ({})",
+                totalTasksScheduled,
+                tasksWithQoSSatisfied, String.format("%.1f%%", tasksWithQoSSatisfied * 100.0 / totalTasksScheduled),
+                deadlinesMet, String.format("%.1f%%", deadlinesMet * 100.0 / totalTasksScheduled),
+                budgetsMet, String.format("%.1f%%", budgetsMet * 100.0 / totalTasksScheduled));
+        logger.info("Total Execution Time: {}s, Total Cost: ${}, Average Time per Task: {}s, Average Cost per Task: ${}",
+                String.format("%.4f", totalTime), String.format("%.4f", totalCost),
+                String.format("%.4f", totalTime / totalTasksScheduled), String.format("%.4f", totalCost / totalTasksScheduled));
         
         // VM utilization
-        System.out.println("\nVM Utilization:");
-        for (Map.Entry<Integer, Double> entry : vmLoadTime.entrySet()) {
-            int tasks = vmTaskCount.get(entry.getKey());
-            System.out.println("  VM " + entry.getKey() + ": " + tasks + " tasks, " +
-                    String.format("%.4f", entry.getValue()) + "s total time");
+        if (logger.isDebugEnabled()) {
+            List<VirtualMachine> vms = assignment.getVms();
+            for (int v = 0; v < vms.size(); v++) {
+                logger.debug("  VM {}: {} tasks on {} PEs, {}s total time", vms.get(v).getVmId(), vmTaskCounts[v],
+                        timeline.getPes(v), String.format("%.4f", vmBusyTimes[v]));
+            }
         }
-        
-        System.out.println("=".repeat(60) + "\n");
     }
     
     @Override
@@ -266,12 +276,56 @@ public class QoSAwareScheduler implements TaskScheduler {
         return new ArrayList<>(results);
     }
     
+    /**
+     * Online QoS selection: the idle VM with the lowest QoS score
+     * (α×time/deadline + β×cost/budget plus violation penalties), preferring
+     * VMs that meet the enabled deadline and budget constraints.
+     */
+    @Override
+    public DispatchPolicy getDispatchPolicy() {
+        return (task, vms, idle, idleCount, now) -> {
+            int best = -1, bestFeasible = -1;
+            double bestScore = Double.MAX_VALUE, bestFeasibleScore = Double.MAX_VALUE;
+            
+            for (int i = 0; i < idleCount; i++) {
+                int v = idle[i];
+                VirtualMachine vm = vms.get(v);
+                double time = vm.calculateTotalTime(task.getTaskLength());
+                double cost = vm.calculateExecutionCost(task.getTaskLength());
+                boolean deadlineOk = time <= task.getDeadline();
+                boolean budgetOk = cost <= task.getBudget();
+                
+                double score = config.getAlpha() * time / task.getDeadline()
+                        + config.getBeta() * cost / task.getBudget()
+                        + (deadlineOk ? 0 : (time - task.getDeadline()) * 10)
+                        + (budgetOk ? 0 : (cost - task.getBudget()) * 10);
+                
+                if (score < bestScore || (score == bestScore && v < best)) {
+                    bestScore = score;
+                    best = v;
+                }
+                boolean feasible = (deadlineOk || !config.isEnableDeadlineConstraint())
+                        && (budgetOk || !config.isEnableBudgetConstraint());
+                if (feasible && (score < bestFeasibleScore || (score == bestFeasibleScore && v < bestFeasible))) {
+                    bestFeasibleScore = score;
+                    bestFeasible = v;
+                }
+            }
+            
+            // Relax the constraints when no idle VM satisfies them
+            return bestFeasible >= 0 ? bestFeasible : best;
+        };
+    }
+    
     @Override
     public void reset() {
         results.clear();
         resultMap.clear();
-        vmLoadTime.clear();
-        vmTaskCount.clear();
+        timeline = null;
+        frontier = null;
+        vmBusyTimes = new double[0];
+        vmLoadFactors = new double[0];
+        vmTaskCounts = new int[0];
         totalTasksScheduled = 0;
         tasksWithQoSSatisfied = 0;
         deadlinesMet = 0;
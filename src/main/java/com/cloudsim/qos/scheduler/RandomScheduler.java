@@ -1,8 +1,12 @@
 package com.cloudsim.qos.scheduler;
 
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -15,9 +19,10 @@ import java.util.*;
  */
 public class RandomScheduler implements TaskScheduler {
     
+    private static final Logger logger = LoggerFactory.getLogger(RandomScheduler.class);
+    
     private List<SchedulingResult> results;
     private Map<Integer, SchedulingResult> resultMap;
-    private Map<Integer, Double> vmLoadTime;
     private Random random;
     private long seed;
     
@@ -30,7 +35,6 @@ public class RandomScheduler implements TaskScheduler {
         this.random = new Random(seed);
         this.results = new ArrayList<>();
         this.resultMap = new HashMap<>();
-        this.vmLoadTime = new HashMap<>();
     }
     
     @Override
@@ -46,74 +50,48 @@ public class RandomScheduler implements TaskScheduler {
     
     @Override
     public Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms) {
+        Assignment assignment = run(TaskTable.fromTasks(tasks), vms);
+        Assignments.collect(assignment.toResults(tasks), results, resultMap);
+        return resultMap;
+    }
+    
+    @Override
+    public Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        return run(tasks, vms);
+    }
+    
+    /**
+     * Runs random assignment over the table, recording every decision in a new assignment.
+     */
+    private Assignment run(TaskTable tasks, List<VirtualMachine> vms) {
         reset();
+        Assignment assignment = new Assignment(tasks, vms);
         random = new Random(seed);  // Reset random for reproducibility
         
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("RANDOM SCHEDULING");
-        System.out.println("=".repeat(60));
-        System.out.println("Algorithm: " + getName());
-        System.out.println("Tasks: " + tasks.size() + ", VMs: " + vms.size());
-        System.out.println("Random Seed: " + seed);
+        logger.info("{}: scheduling {} tasks on {} VMs (seed {})", getName(), tasks.size(), vms.size(), seed);
         
-        // Initialize VM load tracking
-        for (VirtualMachine vm : vms) {
-            vmLoadTime.put(vm.getVmId(), 0.0);
-        }
+        // Initialize VM load tracking, one slot per PE
+        VmTimeline timeline = new VmTimeline(vms);
         
         // Process tasks
-        for (CloudTask task : tasks) {
+        for (int t = 0; t < tasks.size(); t++) {
             // Random VM selection
             int vmIndex = random.nextInt(vms.size());
             VirtualMachine selectedVM = vms.get(vmIndex);
             
-            // Create scheduling result
-            SchedulingResult result = new SchedulingResult(task, selectedVM);
-            
-            // Set timing information
-            double startTime = vmLoadTime.get(selectedVM.getVmId());
-            result.setStartTime(startTime);
-            result.setFinishTime(startTime + result.getTotalTime());
+            // Set timing information: start on the earliest-free PE
+            double startTime = timeline.readyTime(vmIndex);
+            double finishTime = startTime + selectedVM.calculateTotalTime(tasks.getTaskLength(t));
             
             // Update VM load
-            vmLoadTime.put(selectedVM.getVmId(), result.getFinishTime());
-            
-            // Update task
-            task.setAssignedVmId(selectedVM.getVmId());
-            task.setEstimatedExecutionTime(result.getTotalTime());
-            task.setEstimatedCost(result.getCost());
-            task.setDeadlineMet(result.isDeadlineSatisfied());
-            task.setBudgetMet(result.isBudgetSatisfied());
+            timeline.assign(vmIndex, finishTime);
             
-            results.add(result);
-            resultMap.put(task.getTaskId(), result);
-            
-            System.out.println("Task " + task.getTaskId() + " -> VM " + selectedVM.getVmId() +
-                    " (Time: " + String.format("%.4f", result.getTotalTime()) + 
-                    "s, Cost: $" + String.format("%.4f", result.getCost()) + ")");
-        }
-        
-        printSummary();
-        return resultMap;
-    }
-    
-    private void printSummary() {
-        double totalTime = 0, totalCost = 0;
-        int deadlinesMet = 0, budgetsMet = 0;
-        
-        for (SchedulingResult result : results) {
-            totalTime += result.getTotalTime();
-            totalCost += result.getCost();
-            if (result.isDeadlineSatisfied()) deadlinesMet++;
-            if (result.isBudgetSatisfied()) budgetsMet++;
+            assignment.record(t, vmIndex, startTime, finishTime);
+            Assignments.logAssignment(logger, assignment, t);
         }
         
-        System.out.println("\n--- Random Summary ---");
-        System.out.println("Total Time: " + String.format("%.4f", totalTime) + "s");
-        System.out.println("Total Cost: $" + String.format("%.4f", totalCost));
-        System.out.println("Deadlines Met: " + deadlinesMet + "/" + results.size());
-        System.out.println("Budgets Met: " + budgetsMet + "/" + results.size());
-        System.out.println("=".repeat(60) + "\n");
+        Assignments.logSummary(logger, "Random", assignment);
+        return assignment;
     }
     
     @Override
@@ -121,11 +99,21 @@ public class RandomScheduler implements TaskScheduler {
         return new ArrayList<>(results);
     }
     
+    /**
+     * Online random: a uniformly chosen idle VM. Each policy has its own
+     * generator seeded from the scheduler's seed, so online choices do not
+     * depend on earlier runs of this scheduler.
+     */
+    @Override
+    public DispatchPolicy getDispatchPolicy() {
+        Random policyRandom = new Random(seed);
+        return (task, vms, idle, idleCount, now) -> idle[policyRandom.nextInt(idleCount)];
+    }
+    
     @Override
     public void reset() {
         results.clear();
         resultMap.clear();
-        vmLoadTime.clear();
     }
     
     public void setSeed(long seed) {
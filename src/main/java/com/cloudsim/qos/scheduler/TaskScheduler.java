@@ -1,9 +1,12 @@
 package com.cloudsim.qos.scheduler;
 
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,13 +27,46 @@ public interface TaskScheduler {
     String getDescription();
     
     /**
-     * Schedules tasks to virtual machines.
+     * Schedules tasks to virtual machines. The task and VM objects are only
+     * read, so the same lists can be passed to several schedulers.
      * @param tasks List of tasks to schedule
      * @param vms List of available VMs
      * @return Map of task ID to scheduling result
      */
     Map<Integer, SchedulingResult> schedule(List<CloudTask> tasks, List<VirtualMachine> vms);
     
+    /**
+     * Schedules the tasks of a columnar table. The table and VMs are only
+     * read; all decisions go to the returned assignment, so one workload can
+     * be shared by any number of runs. No per-task result objects are kept,
+     * so {@link #getResults()} is empty afterwards.
+     * 
+     * The default materializes the table, runs {@link #schedule(List, List)}
+     * and converts its results; the built-in batch schedulers work on the
+     * columns directly.
+     */
+    default Assignment schedule(TaskTable tasks, List<VirtualMachine> vms) {
+        List<CloudTask> taskList = tasks.toTaskList();
+        schedule(taskList, vms);
+        
+        Map<CloudTask, Integer> taskIndex = new IdentityHashMap<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            taskIndex.put(taskList.get(i), i);
+        }
+        Map<VirtualMachine, Integer> vmIndex = new IdentityHashMap<>();
+        for (int v = 0; v < vms.size(); v++) {
+            vmIndex.putIfAbsent(vms.get(v), v);
+        }
+        
+        Assignment assignment = new Assignment(tasks, vms);
+        for (SchedulingResult result : getResults()) {
+            assignment.record(taskIndex.get(result.getTask()), vmIndex.get(result.getVm()),
+                    result.getStartTime(), result.getFinishTime());
+        }
+        reset();
+        return assignment;
+    }
+    
     /**
      * Gets the scheduling results after scheduling is complete.
      */
@@ -40,4 +76,13 @@ public interface TaskScheduler {
      * Resets the scheduler for a new scheduling round.
      */
     void reset();
+    
+    /**
+     * Gets the rule this algorithm uses to place one task at a time in
+     * online mode (see {@link OnlineScheduler}). A fresh policy is returned
+     * for each run. Defaults to minimum completion time.
+     */
+    default DispatchPolicy getDispatchPolicy() {
+        return DispatchPolicy.MINIMUM_COMPLETION_TIME;
+    }
 }
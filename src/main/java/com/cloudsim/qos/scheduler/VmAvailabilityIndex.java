@@ -0,0 +1,203 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.List;
+
+/**
+ * Segment tree over a VM fleet that answers "which VM finishes a task of
+ * length L first" without scanning every VM.
+ *
+ * Completion time on VM v is readyTime(v) + (L / mips(v) + latency(v)),
+ * where the ready time comes from the {@link VmTimeline} and so already
+ * accounts for free PEs. Leaves hold the VMs sorted by speed, so a node
+ * covers VMs of similar speed. Each node keeps the minimum ready time of
+ * its VMs, which changes in O(log V) per assignment, and the static
+ * maximum MIPS and minimum latency. Together they give a lower bound on
+ * every completion time in the node. Queries descend best-bound first and
+ * skip nodes whose bound cannot beat the current answer, so on typical
+ * fleets only a few root-to-leaf paths are visited.
+ *
+ * IEEE rounding is monotone, so the bound computed in floating point never
+ * exceeds a completion time computed the same way. Ties go to the lowest VM
+ * index. Answers are therefore exactly those of a linear scan over the VMs
+ * in index order with a strict comparison.
+ */
+class VmAvailabilityIndex {
+
+    private final int leaves;               // power of two >= numVMs
+    private final int[] leafVm;             // [leaf] -> VM index, -1 for padding
+    private final int[] leafOf;             // [vm] -> leaf
+    private final double[] mips;            // [vm]
+    private final double[] latency;         // [vm]
+
+    // Per tree node, root at 1 and leaves at [leaves, 2 * leaves)
+    private final double[] minReady;
+    private final double[] maxMips;
+    private final double[] minLatency;
+    private final int[] minIndex;
+
+    // Current query state
+    private double length;
+    private int firstVm, secondVm;
+    private double firstTime, secondTime;
+
+    VmAvailabilityIndex(List<VirtualMachine> vms) {
+        int numVMs = vms.size();
+        int size = 1;
+        while (size < numVMs) {
+            size <<= 1;
+        }
+        this.leaves = size;
+        this.mips = new double[numVMs];
+        this.latency = new double[numVMs];
+        for (int v = 0; v < numVMs; v++) {
+            mips[v] = vms.get(v).getMips();
+            latency[v] = vms.get(v).getNetworkLatency();
+        }
+
+        // Fastest VMs first, then lowest latency
+        int[] order = IndexSort.sort(numVMs, (a, b) -> {
+            int speedCompare = Double.compare(mips[b], mips[a]);
+            if (speedCompare != 0) return speedCompare;
+            return Double.compare(latency[a], latency[b]);
+        });
+
+        this.leafVm = new int[leaves];
+        this.leafOf = new int[numVMs];
+        this.minReady = new double[2 * leaves];
+        this.maxMips = new double[2 * leaves];
+        this.minLatency = new double[2 * leaves];
+        this.minIndex = new int[2 * leaves];
+
+        for (int leaf = 0; leaf < leaves; leaf++) {
+            int node = leaves + leaf;
+            if (leaf < numVMs) {
+                int v = order[leaf];
+                leafVm[leaf] = v;
+                leafOf[v] = leaf;
+                maxMips[node] = mips[v];
+                minLatency[node] = latency[v];
+                minIndex[node] = v;
+            } else {
+                // Padding: the bound is infinite, so it is never visited
+                leafVm[leaf] = -1;
+                minReady[node] = Double.POSITIVE_INFINITY;
+                minLatency[node] = Double.POSITIVE_INFINITY;
+                minIndex[node] = Integer.MAX_VALUE;
+            }
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            int left = node << 1, right = left + 1;
+            minReady[node] = Math.min(minReady[left], minReady[right]);
+            maxMips[node] = Math.max(maxMips[left], maxMips[right]);
+            minLatency[node] = Math.min(minLatency[left], minLatency[right]);
+            minIndex[node] = Math.min(minIndex[left], minIndex[right]);
+        }
+    }
+
+    /**
+     * Sets a VM's ready time (the free time of its earliest-free PE).
+     */
+    void update(int vmIndex, double readyTime) {
+        int node = leaves + leafOf[vmIndex];
+        minReady[node] = readyTime;
+        for (node >>>= 1; node >= 1; node >>>= 1) {
+            minReady[node] = Math.min(minReady[node << 1], minReady[(node << 1) + 1]);
+        }
+    }
+
+    /**
+     * Finds the VM with the earliest completion time for a task.
+     * @return VM index, or -1 if no completion time is below Double.MAX_VALUE
+     */
+    int earliestFinish(long taskLength) {
+        query(taskLength);
+        return firstVm;
+    }
+
+    /**
+     * Finds the two VMs with the earliest completion times for a task,
+     * readable through the first/second getters afterwards.
+     */
+    void earliestTwo(long taskLength) {
+        query(taskLength);
+    }
+
+    int firstVm() {
+        return firstVm;
+    }
+
+    double firstTime() {
+        return firstTime;
+    }
+
+    int secondVm() {
+        return secondVm;
+    }
+
+    double secondTime() {
+        return secondTime;
+    }
+
+    private void query(long taskLength) {
+        length = taskLength;
+        firstVm = secondVm = -1;
+        firstTime = secondTime = Double.MAX_VALUE;
+        search(1);
+    }
+
+    private void search(int node) {
+        if (node >= leaves) {
+            int v = leafVm[node - leaves];
+            if (v < 0) {
+                return;   // empty fleet
+            }
+            offer(v, minReady[node] + (length / mips[v] + latency[v]));
+            return;
+        }
+
+        int left = node << 1, right = left + 1;
+        double leftBound = bound(left);
+        double rightBound = bound(right);
+
+        // Visit the more promising child first so the other one is more likely pruned
+        if (rightBound < leftBound) {
+            if (!pruned(right, rightBound)) search(right);
+            if (!pruned(left, leftBound)) search(left);
+        } else {
+            if (!pruned(left, leftBound)) search(left);
+            if (!pruned(right, rightBound)) search(right);
+        }
+    }
+
+    /**
+     * Lower bound on the completion time of every VM in a node.
+     */
+    private double bound(int node) {
+        return minReady[node] + (length / maxMips[node] + minLatency[node]);
+    }
+
+    /**
+     * Checks whether no VM of a node can enter the top two, ordered by
+     * completion time and then VM index.
+     */
+    private boolean pruned(int node, double bound) {
+        return bound > secondTime || (bound == secondTime && minIndex[node] > secondVm);
+    }
+
+    /**
+     * Inserts a candidate into the top two if it ranks there.
+     */
+    private void offer(int v, double time) {
+        if (time < firstTime || (time == firstTime && v < firstVm)) {
+            secondVm = firstVm;
+            secondTime = firstTime;
+            firstVm = v;
+            firstTime = time;
+        } else if (time < secondTime || (time == secondTime && v < secondVm)) {
+            secondVm = v;
+            secondTime = time;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.VirtualMachine;
+import com.cloudsim.qos.profiling.TaskProfilingModule;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pareto pruning of the VMs considered by the QoS-aware selection.
+ *
+ * A VM u dominates a VM v when it is at least as fast, no more expensive
+ * per second and has no more latency. Then u's time and cost for any task
+ * are no higher than v's, so u's QoS score is no higher either, and u meets
+ * every constraint v meets. IEEE rounding is monotone, so this holds for
+ * the computed scores too, not just the exact ones.
+ *
+ * The VMs not dominated by any other VM form the frontier, and every
+ * dominated VM is grouped under one frontier VM that dominates it. A
+ * selection scores the frontier first. For a group, the frontier VM's
+ * score times the lowest load factor in the group is a lower bound on the
+ * weighted score of every member. A group whose bound cannot beat the
+ * current best is skipped without reading its members' scores. Otherwise
+ * each member is checked against its own bound before it is scored. Only
+ * the load factors change during a run, so a group's lowest load is
+ * updated when one of its VMs changes.
+ *
+ * Ties go to the lowest VM index, so the selected VM is always the one
+ * {@link TaskProfilingModule#findBestVM(int, double[], boolean, boolean)}
+ * returns. The bound needs non-negative, monotone scores. Tasks with a
+ * non-positive deadline, budget or priority modifier, and negative
+ * weights or VM cost rates, fall back to the full scan.
+ */
+class VmFrontier {
+
+    private final TaskProfilingModule profilingModule;
+    private final double[] loadFactors;   // [vm] -> load factor, owned by the scheduler
+    private final boolean usable;         // false when the score is not monotone for every task
+
+    private final int[] frontier;         // non-dominated VMs, fastest first
+    private final int[] groupStart;       // [f] -> offset into members, [frontier.length] = end
+    private final int[] members;          // dominated VMs, grouped by frontier position
+    private final int[] groupOf;          // [vm] -> frontier position of its group, -1 on the frontier
+    private final int[] groupMinIndex;    // [f] -> lowest VM index in the group
+    private final double[] groupMinLoad;  // [f] -> lowest load factor in the group
+    private final int[] groupMinLoadVm;   // [f] -> VM with that load factor
+
+    // Frontier scores of the current selection
+    private final double[] frontierScores;
+    private final boolean[] frontierQualifies;
+
+    VmFrontier(List<VirtualMachine> vms, TaskProfilingModule profilingModule, double[] loadFactors,
+               double alpha, double beta) {
+        this.profilingModule = profilingModule;
+        this.loadFactors = loadFactors;
+        int numVMs = vms.size();
+
+        double[] mips = new double[numVMs];
+        double[] latency = new double[numVMs];
+        double[] costPerSecond = new double[numVMs];
+        boolean monotone = alpha >= 0 && beta >= 0;
+        for (int v = 0; v < numVMs; v++) {
+            VirtualMachine vm = vms.get(v);
+            mips[v] = vm.getMips();
+            latency[v] = vm.getNetworkLatency();
+            costPerSecond[v] = vm.getCostPerSecond();
+            monotone &= mips[v] > 0 && costPerSecond[v] >= 0;
+        }
+        this.usable = monotone;
+
+        // A VM can only be dominated by VMs before it in this order
+        int[] order = IndexSort.sort(numVMs, (a, b) -> {
+            int compare = Double.compare(mips[b], mips[a]);
+            if (compare != 0) return compare;
+            compare = Double.compare(latency[a], latency[b]);
+            if (compare != 0) return compare;
+            return Double.compare(costPerSecond[a], costPerSecond[b]);
+        });
+
+        // Latency ranks for a prefix-minimum tree over the frontier's cost rates
+        int[] byLatency = IndexSort.sort(numVMs, (a, b) -> Double.compare(latency[a], latency[b]));
+        int[] latencyRank = new int[numVMs];
+        for (int i = 0; i < numVMs; i++) {
+            int v = byLatency[i];
+            latencyRank[v] = i > 0 && latency[v] == latency[byLatency[i - 1]]
+                    ? latencyRank[byLatency[i - 1]] : i;
+        }
+        double[] treeCost = new double[numVMs + 1];
+        int[] treeVm = new int[numVMs + 1];
+        Arrays.fill(treeCost, Double.POSITIVE_INFINITY);
+
+        // Sweep from fastest: v is dominated if an earlier frontier VM has
+        // no more latency and no higher cost rate
+        int[] parentOf = new int[numVMs];
+        int[] frontierOrder = new int[numVMs];
+        int frontierSize = 0;
+        for (int v : order) {
+            double cheapest = Double.POSITIVE_INFINITY;
+            int cheapestVm = -1;
+            for (int i = latencyRank[v] + 1; i > 0; i -= i & -i) {
+                if (treeCost[i] < cheapest) {
+                    cheapest = treeCost[i];
+                    cheapestVm = treeVm[i];
+                }
+            }
+
+            if (cheapestVm >= 0 && cheapest <= costPerSecond[v]) {
+                parentOf[v] = cheapestVm;
+            } else {
+                parentOf[v] = -1;
+                frontierOrder[frontierSize++] = v;
+                for (int i = latencyRank[v] + 1; i <= numVMs; i += i & -i) {
+                    if (costPerSecond[v] < treeCost[i]) {
+                        treeCost[i] = costPerSecond[v];
+                        treeVm[i] = v;
+                    }
+                }
+            }
+        }
+
+        this.frontier = Arrays.copyOf(frontierOrder, frontierSize);
+        int[] position = new int[numVMs];
+        for (int f = 0; f < frontierSize; f++) {
+            position[frontier[f]] = f;
+        }
+
+        // Group the dominated VMs by frontier position, in index order
+        this.groupOf = new int[numVMs];
+        this.groupStart = new int[frontierSize + 1];
+        for (int v = 0; v < numVMs; v++) {
+            groupOf[v] = parentOf[v] < 0 ? -1 : position[parentOf[v]];
+            if (groupOf[v] >= 0) {
+                groupStart[groupOf[v] + 1]++;
+            }
+        }
+        for (int f = 0; f < frontierSize; f++) {
+            groupStart[f + 1] += groupStart[f];
+        }
+        this.members = new int[groupStart[frontierSize]];
+        int[] next = Arrays.copyOf(groupStart, frontierSize);
+        for (int v = 0; v < numVMs; v++) {
+            if (groupOf[v] >= 0) {
+                members[next[groupOf[v]]++] = v;
+            }
+        }
+
+        this.groupMinIndex = new int[frontierSize];
+        this.groupMinLoad = new double[frontierSize];
+        this.groupMinLoadVm = new int[frontierSize];
+        for (int f = 0; f < frontierSize; f++) {
+            groupMinIndex[f] = groupStart[f] < groupStart[f + 1] ? members[groupStart[f]] : Integer.MAX_VALUE;
+            refreshGroup(f);
+        }
+
+        this.frontierScores = new double[frontierSize];
+        this.frontierQualifies = new boolean[frontierSize];
+    }
+
+    /**
+     * Must be called after a VM's load factor changes.
+     */
+    void loadChanged(int vmIndex) {
+        int f = groupOf[vmIndex];
+        if (f < 0) {
+            return;
+        }
+        if (loadFactors[vmIndex] < groupMinLoad[f]) {
+            groupMinLoad[f] = loadFactors[vmIndex];
+            groupMinLoadVm[f] = vmIndex;
+        } else if (groupMinLoadVm[f] == vmIndex) {
+            refreshGroup(f);
+        }
+    }
+
+    private void refreshGroup(int f) {
+        groupMinLoad[f] = Double.POSITIVE_INFINITY;
+        groupMinLoadVm[f] = -1;
+        for (int i = groupStart[f]; i < groupStart[f + 1]; i++) {
+            int v = members[i];
+            if (loadFactors[v] < groupMinLoad[f]) {
+                groupMinLoad[f] = loadFactors[v];
+                groupMinLoadVm[f] = v;
+            }
+        }
+    }
+
+    int getFrontierSize() {
+        return frontier.length;
+    }
+
+    /**
+     * Finds the VM with the lowest QoS score × load factor among the VMs
+     * that meet the required constraints, as the full scan does.
+     * @return Index of the VM, or -1 if no VM qualifies
+     */
+    int findBestVM(int taskIndex, double deadline, double budget, int priority,
+                   boolean requireDeadline, boolean requireBudget) {
+        if (!usable || deadline <= 0 || budget <= 0 || priority > 10) {
+            return profilingModule.findBestVM(taskIndex, loadFactors, requireDeadline, requireBudget);
+        }
+
+        int bestVM = -1;
+        double bestScore = Double.MAX_VALUE;
+
+        // Frontier VMs are scored in full
+        for (int f = 0; f < frontier.length; f++) {
+            int v = frontier[f];
+            frontierQualifies[f] = qualifies(taskIndex, v, requireDeadline, requireBudget);
+            if (!frontierQualifies[f]) {
+                continue;
+            }
+            frontierScores[f] = profilingModule.getQoSScore(taskIndex, v);
+            double combined = frontierScores[f] * loadFactors[v];
+            if (combined < bestScore || (combined == bestScore && v < bestVM)) {
+                bestScore = combined;
+                bestVM = v;
+            }
+        }
+
+        // A group can only hold a better VM if its bound does not exceed the best so far
+        for (int f = 0; f < frontier.length; f++) {
+            if (groupStart[f] == groupStart[f + 1] || !frontierQualifies[f]) {
+                continue;   // empty, or its frontier VM fails the constraints and so do its members
+            }
+            double parentScore = frontierScores[f];
+            if (pruned(parentScore * groupMinLoad[f], groupMinIndex[f], bestScore, bestVM)) {
+                continue;
+            }
+
+            for (int i = groupStart[f]; i < groupStart[f + 1]; i++) {
+                int v = members[i];
+                if (pruned(parentScore * loadFactors[v], v, bestScore, bestVM)
+                        || !qualifies(taskIndex, v, requireDeadline, requireBudget)) {
+                    continue;
+                }
+                double combined = profilingModule.getQoSScore(taskIndex, v) * loadFactors[v];
+                if (combined < bestScore || (combined == bestScore && v < bestVM)) {
+                    bestScore = combined;
+                    bestVM = v;
+                }
+            }
+        }
+
+        return bestVM;
+    }
+
+    private boolean qualifies(int taskIndex, int v, boolean requireDeadline, boolean requireBudget) {
+        return (!requireDeadline || profilingModule.canMeetDeadline(taskIndex, v))
+                && (!requireBudget || profilingModule.canMeetBudget(taskIndex, v));
+    }
+
+    /**
+     * Checks whether a lower bound rules out every VM it covers, given the
+     * lowest VM index among them.
+     */
+    private static boolean pruned(double bound, int minIndex, double bestScore, int bestVM) {
+        return bound > bestScore || (bound == bestScore && minIndex > bestVM);
+    }
+}
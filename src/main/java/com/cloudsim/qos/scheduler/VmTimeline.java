@@ -0,0 +1,70 @@
+package com.cloudsim.qos.scheduler;
+
+import com.cloudsim.qos.model.VirtualMachine;
+
+import java.util.List;
+
+/**
+ * Availability timeline of a VM fleet with one slot per processing element.
+ *
+ * Each VM runs up to {@link VirtualMachine#getNumberOfPes()} tasks at once,
+ * one per PE, at the VM's MIPS rating. The free times of a VM's PEs form a
+ * binary min-heap, so the VM's ready time (its earliest-free PE) is read in
+ * O(1) and an assignment costs O(log PEs). The heaps of all VMs share one
+ * flat array, with VM v's PEs at [first[v], first[v + 1]).
+ *
+ * A single-PE VM behaves exactly like the former per-VM load scalar: its
+ * ready time is the finish time of its last task.
+ */
+class VmTimeline {
+
+    private final int[] first;           // [vm] -> offset of the VM's heap, [numVMs] = total PEs
+    private final double[] freeAt;       // [pe] -> time the PE becomes free, min-heap per VM
+
+    VmTimeline(List<VirtualMachine> vms) {
+        int numVMs = vms.size();
+        this.first = new int[numVMs + 1];
+        for (int v = 0; v < numVMs; v++) {
+            first[v + 1] = first[v] + Math.max(1, vms.get(v).getNumberOfPes());
+        }
+        this.freeAt = new double[first[numVMs]];
+    }
+
+    /**
+     * Gets the earliest time a task can start on a VM.
+     */
+    double readyTime(int vmIndex) {
+        return freeAt[first[vmIndex]];
+    }
+
+    /**
+     * Occupies the VM's earliest-free PE until the given finish time, which
+     * must not be before {@link #readyTime}.
+     */
+    void assign(int vmIndex, double finishTime) {
+        int base = first[vmIndex];
+        int size = first[vmIndex + 1] - base;
+
+        // Replace the root and sift it down
+        int i = 0;
+        while (true) {
+            int child = (i << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && freeAt[base + child + 1] < freeAt[base + child]) {
+                child++;
+            }
+            if (freeAt[base + child] >= finishTime) {
+                break;
+            }
+            freeAt[base + i] = freeAt[base + child];
+            i = child;
+        }
+        freeAt[base + i] = finishTime;
+    }
+
+    int getPes(int vmIndex) {
+        return first[vmIndex + 1] - first[vmIndex];
+    }
+}
@@ -3,10 +3,12 @@ package com.cloudsim.qos.ui;
 import com.cloudsim.qos.config.InputConfigurationModule;
 import com.cloudsim.qos.config.SimulationConfig;
 import com.cloudsim.qos.evaluation.PerformanceEvaluationModule;
+import com.cloudsim.qos.model.Assignment;
 import com.cloudsim.qos.model.CloudTask;
+import com.cloudsim.qos.model.ParetoSolution;
 import com.cloudsim.qos.model.SchedulingResult;
+import com.cloudsim.qos.model.TaskTable;
 import com.cloudsim.qos.model.VirtualMachine;
-import com.cloudsim.qos.profiling.TaskProfilingModule;
 import com.cloudsim.qos.scheduler.*;
 import com.cloudsim.qos.ui.components.*;
 import com.cloudsim.qos.ui.panels.*;
@@ -24,6 +26,8 @@ import javafx.stage.FileChooser;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.prefs.Preferences;
 
 /**
@@ -57,6 +61,11 @@ public class SimulatorController {
     private Map<String, List<SchedulingResult>> allResults = new LinkedHashMap<>();
     private Map<String, Map<String, Double>> allMetrics = new LinkedHashMap<>();
     
+    // Pareto front of the last NSGA-II run, and the workload it was computed on
+    private NsgaIIScheduler paretoScheduler;
+    private List<CloudTask> paretoTasks;
+    private List<VirtualMachine> paretoVms;
+    
     // Sidebar buttons for highlighting
     private Map<String, Button> sidebarButtons = new HashMap<>();
     private String currentPanel = "welcome";
@@ -70,6 +79,18 @@ public class SimulatorController {
     // Run counter
     private int runCounter = 0;
     
+    // Incremented per runSimulation call; completions of older runs are dropped
+    private int runGeneration = 0;
+    
+    // Worker threads for concurrent algorithm runs
+    private final ExecutorService simulationExecutor = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors()),
+        runnable -> {
+            Thread thread = new Thread(runnable, "simulation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    
     public SimulatorController() {
         initializeUI();
         initializePanels();
@@ -340,61 +361,172 @@ public class SimulatorController {
     public void runSimulation(List<String> selectedAlgorithms, Runnable onComplete) {
         statusBar.setStatus("Running simulation...");
         statusBar.showProgress(true);
+        statusBar.setProgress(0);
+        
+        allResults.clear();
+        allMetrics.clear();
+        paretoScheduler = null;
+        int generation = ++runGeneration;
+        
+        // Snapshot the workload so edits made while the run is in flight are not seen
+        List<CloudTask> taskSnapshot = new ArrayList<>(tasks);
+        List<VirtualMachine> vmSnapshot = new ArrayList<>(vms);
+        TaskTable workload = TaskTable.fromTasks(taskSnapshot);
+        
+        int total = selectedAlgorithms.size();
+        int[] completed = {0};
+        List<CompletableFuture<Void>> runs = new ArrayList<>();
+        
+        // Each algorithm runs concurrently on the shared read-only workload,
+        // and is merged into the result maps on the FX thread as it finishes
+        for (String algorithm : selectedAlgorithms) {
+            CompletableFuture<Void> run = CompletableFuture
+                .supplyAsync(() -> runAlgorithm(algorithm, taskSnapshot, workload, vmSnapshot), simulationExecutor)
+                .handle((outcome, error) -> {
+                    Platform.runLater(() -> {
+                        // A newer run has replaced this one's results
+                        if (generation != runGeneration) {
+                            return;
+                        }
+                        completed[0]++;
+                        statusBar.setProgress(completed[0] / (double) total);
+                        
+                        if (error != null) {
+                            Throwable cause = error.getCause() != null ? error.getCause() : error;
+                            statusBar.setStatus("Error in " + algorithm + ": " + cause.getMessage());
+                            showError("Simulation Error", algorithm + ": " + cause.getMessage());
+                            return;
+                        }
+                        
+                        mergeResults(selectedAlgorithms, algorithm, outcome);
+                        if (outcome.pareto != null) {
+                            paretoScheduler = outcome.pareto;
+                            paretoTasks = taskSnapshot;
+                            paretoVms = vmSnapshot;
+                        }
+                        statusBar.setStatus("Completed " + algorithm + " (" + completed[0] + "/" + total + ")");
+                        refreshResultPanels(taskSnapshot, vmSnapshot);
+                    });
+                    return null;
+                });
+            runs.add(run);
+        }
         
-        CompletableFuture.runAsync(() -> {
-            try {
-                allResults.clear();
-                allMetrics.clear();
-                
-                // TaskProfilingModule can be used for advanced profiling features
-                @SuppressWarnings("unused")
-                TaskProfilingModule profiler = new TaskProfilingModule(tasks, vms);
-                PerformanceEvaluationModule evaluator = new PerformanceEvaluationModule();
-                
-                int total = selectedAlgorithms.size();
-                int current = 0;
-                
-                for (String algorithm : selectedAlgorithms) {
-                    current++;
-                    int finalCurrent = current;
-                    Platform.runLater(() -> 
-                        statusBar.setStatus("Running " + algorithm + " (" + finalCurrent + "/" + total + ")...")
-                    );
-                    
-                    TaskScheduler scheduler = createScheduler(algorithm);
-                    scheduler.schedule(tasks, vms);
-                    List<SchedulingResult> results = scheduler.getResults();
-                    
-                    allResults.put(algorithm, results);
-                    allMetrics.put(algorithm, evaluator.calculateMetrics(results, tasks, vms));
-                    
-                    Thread.sleep(100); // Small delay for visual feedback
+        CompletableFuture.allOf(runs.toArray(new CompletableFuture<?>[0]))
+            .thenRun(() -> Platform.runLater(() -> {
+                if (generation != runGeneration) {
+                    return;
                 }
+                statusBar.setStatus(allResults.size() == total
+                        ? "Simulation completed successfully!"
+                        : "Simulation completed with errors (" + allResults.size() + "/" + total + " algorithms)");
+                statusBar.showProgress(false);
+                updateQuickStats();
                 
-                Platform.runLater(() -> {
-                    statusBar.setStatus("Simulation completed successfully!");
-                    statusBar.showProgress(false);
-                    updateQuickStats();
-                    
-                    // Update all panels with new data
-                    resultsPanel.updateResults(allResults, allMetrics);
-                    chartsPanel.updateCharts(allResults, allMetrics);
-                    comparisonPanel.updateData(allResults, allMetrics);
-                    reportsPanel.updateReports(allResults, allMetrics, tasks, vms);
-                    
-                    if (onComplete != null) {
-                        onComplete.run();
-                    }
-                });
-                
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    statusBar.setStatus("Error: " + e.getMessage());
-                    statusBar.showProgress(false);
-                    showError("Simulation Error", e.getMessage());
-                });
+                if (onComplete != null) {
+                    onComplete.run();
+                }
+            }));
+    }
+    
+    /**
+     * Abandons the simulation in flight: its remaining completions are
+     * dropped and its completion callback is not run. Must be called on
+     * the FX thread.
+     */
+    public void stopSimulation() {
+        runGeneration++;
+        statusBar.setStatus("Simulation stopped");
+        statusBar.showProgress(false);
+    }
+    
+    /**
+     * Runs one algorithm on the shared workload. Schedulers write their
+     * decisions to their own Assignment and never modify the tasks or VMs,
+     * so concurrent runs need no copies.
+     */
+    private AlgorithmRun runAlgorithm(String algorithm, List<CloudTask> taskSnapshot,
+                                      TaskTable workload, List<VirtualMachine> vmSnapshot) {
+        TaskScheduler scheduler = createScheduler(algorithm);
+        Assignment assignment = scheduler.schedule(workload, vmSnapshot);
+        List<SchedulingResult> results = assignment.toResults(taskSnapshot);
+        
+        PerformanceEvaluationModule evaluator = new PerformanceEvaluationModule();
+        NsgaIIScheduler pareto = scheduler instanceof NsgaIIScheduler ? (NsgaIIScheduler) scheduler : null;
+        return new AlgorithmRun(results, evaluator.calculateMetrics(assignment), pareto);
+    }
+    
+    /**
+     * Adds a finished run to the result maps, keeping them in the order the
+     * algorithms were selected rather than the order they finished in.
+     * Must be called on the FX thread.
+     */
+    private void mergeResults(List<String> selectedAlgorithms, String algorithm, AlgorithmRun run) {
+        Map<String, List<SchedulingResult>> results = new LinkedHashMap<>(allResults);
+        Map<String, Map<String, Double>> metrics = new LinkedHashMap<>(allMetrics);
+        results.put(algorithm, run.results);
+        metrics.put(algorithm, run.metrics);
+        
+        allResults.clear();
+        allMetrics.clear();
+        for (String name : selectedAlgorithms) {
+            if (results.containsKey(name)) {
+                allResults.put(name, results.get(name));
+                allMetrics.put(name, metrics.get(name));
             }
-        });
+        }
+    }
+    
+    private void refreshResultPanels(List<CloudTask> taskSnapshot, List<VirtualMachine> vmSnapshot) {
+        updateQuickStats();
+        resultsPanel.updateResults(allResults, allMetrics);
+        chartsPanel.updateCharts(allResults, allMetrics);
+        comparisonPanel.updateData(allResults, allMetrics);
+        reportsPanel.updateReports(allResults, allMetrics, taskSnapshot, vmSnapshot);
+        
+        List<ParetoSolution> front = paretoScheduler != null
+                ? paretoScheduler.getParetoFront() : Collections.emptyList();
+        int selected = paretoScheduler != null ? paretoScheduler.getSelectedIndex() : -1;
+        chartsPanel.updateParetoFront(front, selected);
+        comparisonPanel.updateParetoFront(front, selected);
+    }
+    
+    /**
+     * Replaces the NSGA-II results with another schedule from its Pareto
+     * front, picked in the charts or comparison panel. Must be called on
+     * the FX thread.
+     */
+    public void selectParetoSolution(int index) {
+        if (paretoScheduler == null || index == paretoScheduler.getSelectedIndex()
+                || index < 0 || index >= paretoScheduler.getParetoFront().size()) {
+            return;
+        }
+        
+        Assignment assignment = paretoScheduler.select(index);
+        PerformanceEvaluationModule evaluator = new PerformanceEvaluationModule();
+        allResults.put("NSGA-II", assignment.toResults(paretoTasks));
+        allMetrics.put("NSGA-II", evaluator.calculateMetrics(assignment));
+        refreshResultPanels(paretoTasks, paretoVms);
+        
+        ParetoSolution solution = paretoScheduler.getParetoFront().get(index);
+        statusBar.setStatus(String.format("NSGA-II: selected schedule %d (makespan %.2fs, cost $%.2f, %d deadline misses)",
+                index + 1, solution.getMakespan(), solution.getTotalCost(), solution.getDeadlineMisses()));
+    }
+    
+    /**
+     * Results and metrics of a single algorithm run, and the scheduler when
+     * it produced a Pareto front.
+     */
+    private static class AlgorithmRun {
+        final List<SchedulingResult> results;
+        final Map<String, Double> metrics;
+        final NsgaIIScheduler pareto;
+        
+        AlgorithmRun(List<SchedulingResult> results, Map<String, Double> metrics, NsgaIIScheduler pareto) {
+            this.results = results;
+            this.metrics = metrics;
+            this.pareto = pareto;
+        }
     }
     
     private TaskScheduler createScheduler(String algorithm) {
@@ -407,6 +539,14 @@ public class SimulatorController {
                 return new RandomScheduler();
             case "Min-Min":
                 return new MinMinScheduler();
+            case "Max-Min":
+                return new MaxMinScheduler();
+            case "Sufferage":
+                return new SufferageScheduler();
+            case "Genetic":
+                return new GeneticScheduler(config);
+            case "NSGA-II":
+                return new NsgaIIScheduler(config);
             default:
                 return new QoSAwareScheduler(config);
         }
@@ -1,25 +1,35 @@
 package com.cloudsim.qos.ui.panels;
 
+import com.cloudsim.qos.model.ParetoSolution;
 import com.cloudsim.qos.model.SchedulingResult;
 import com.cloudsim.qos.ui.SimulatorController;
+import javafx.application.Platform;
 import javafx.embed.swing.SwingNode;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartMouseEvent;
+import org.jfree.chart.ChartMouseListener;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 import javax.swing.*;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.geom.Ellipse2D;
 import java.util.*;
 
 /**
@@ -32,6 +42,8 @@ public class ChartsPanel {
     private TabPane chartTabs;
     private Map<String, List<SchedulingResult>> currentResults;
     private Map<String, Map<String, Double>> currentMetrics;
+    private List<ParetoSolution> currentFront = Collections.emptyList();
+    private int selectedSolution = -1;
     
     public ChartsPanel(SimulatorController controller) {
         this.controller = controller;
@@ -65,7 +77,10 @@ public class ChartsPanel {
         Tab distributionTab = new Tab("Task Distribution");
         distributionTab.setContent(createDistributionChartPane());
         
-        chartTabs.getTabs().addAll(comparisonTab, costTimeTab, qosTab, distributionTab);
+        Tab paretoTab = new Tab("Pareto Front");
+        paretoTab.setContent(createParetoChartPane());
+        
+        chartTabs.getTabs().addAll(comparisonTab, costTimeTab, qosTab, distributionTab, paretoTab);
         
         // Placeholder
         Label placeholder = new Label("Run a simulation to see charts");
@@ -160,6 +175,22 @@ public class ChartsPanel {
         return pane;
     }
     
+    private VBox createParetoChartPane() {
+        VBox pane = new VBox(10);
+        pane.setPadding(new Insets(10));
+        pane.setAlignment(Pos.CENTER);
+        
+        Label hint = new Label("Click a point of the NSGA-II front to use that schedule as the NSGA-II result");
+        hint.setStyle("-fx-text-fill: #bdc3c7;");
+        
+        SwingNode swingNode = new SwingNode();
+        swingNode.setId("pareto-chart");
+        VBox.setVgrow(swingNode, Priority.ALWAYS);
+        
+        pane.getChildren().addAll(hint, swingNode);
+        return pane;
+    }
+    
     public void updateCharts(Map<String, List<SchedulingResult>> allResults,
                             Map<String, Map<String, Double>> allMetrics) {
         this.currentResults = allResults;
@@ -355,6 +386,101 @@ public class ChartsPanel {
         }
     }
     
+    /**
+     * Shows the Pareto front of the last NSGA-II run, with the selected
+     * schedule highlighted.
+     */
+    public void updateParetoFront(List<ParetoSolution> front, int selected) {
+        this.currentFront = front;
+        this.selectedSolution = selected;
+        SwingUtilities.invokeLater(this::updateParetoChart);
+    }
+    
+    private void updateParetoChart() {
+        List<ParetoSolution> front = currentFront;
+        int selected = selectedSolution;
+        
+        // Series 0 keeps the front's order, so item i is schedule i
+        XYSeries frontSeries = new XYSeries("NSGA-II front", false, true);
+        XYSeries selectedSeries = new XYSeries("Selected schedule", false, true);
+        for (int i = 0; i < front.size(); i++) {
+            ParetoSolution solution = front.get(i);
+            frontSeries.add(solution.getMakespan(), solution.getTotalCost());
+            if (i == selected) {
+                selectedSeries.add(solution.getMakespan(), solution.getTotalCost());
+            }
+        }
+        
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(frontSeries);
+        dataset.addSeries(selectedSeries);
+        
+        // The single-schedule algorithms, for reference
+        XYSeries othersSeries = new XYSeries("Other algorithms", false, true);
+        List<String> others = new ArrayList<>();
+        if (currentMetrics != null) {
+            for (Map.Entry<String, Map<String, Double>> entry : currentMetrics.entrySet()) {
+                if (entry.getKey().equals("NSGA-II")) continue;
+                othersSeries.add(entry.getValue().getOrDefault("makespan", 0.0),
+                        entry.getValue().getOrDefault("totalCost", 0.0));
+                others.add(entry.getKey());
+            }
+        }
+        dataset.addSeries(othersSeries);
+        
+        JFreeChart chart = ChartFactory.createScatterPlot(
+                front.isEmpty() ? "Pareto Front (select NSGA-II to compute one)" : "Pareto Front - Makespan vs Cost",
+                "Makespan (s)",
+                "Total Cost ($)",
+                dataset,
+                PlotOrientation.VERTICAL,
+                true, true, false
+        );
+        
+        styleChart(chart);
+        
+        XYPlot plot = chart.getXYPlot();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(false, true);
+        renderer.setSeriesPaint(0, new Color(52, 152, 219));
+        renderer.setSeriesPaint(1, new Color(241, 196, 15));
+        renderer.setSeriesShape(1, new Ellipse2D.Double(-6, -6, 12, 12));
+        renderer.setSeriesPaint(2, new Color(231, 76, 60));
+        renderer.setDefaultToolTipGenerator((data, series, item) -> {
+            if (series == 2) {
+                return String.format("%s: makespan %.2fs, cost $%.2f", others.get(item),
+                        data.getXValue(series, item), data.getYValue(series, item));
+            }
+            ParetoSolution solution = series == 0 ? front.get(item) : front.get(selected);
+            return String.format("Schedule %d: makespan %.2fs, cost $%.2f, %d deadline misses",
+                    front.indexOf(solution) + 1, solution.getMakespan(), solution.getTotalCost(),
+                    solution.getDeadlineMisses());
+        });
+        plot.setRenderer(renderer);
+        
+        SwingNode node = (SwingNode) panel.lookup("#pareto-chart");
+        if (node != null) {
+            ChartPanel chartPanel = new ChartPanel(chart);
+            chartPanel.setPreferredSize(new Dimension(800, 400));
+            chartPanel.addChartMouseListener(new ChartMouseListener() {
+                @Override
+                public void chartMouseClicked(ChartMouseEvent event) {
+                    if (event.getEntity() instanceof XYItemEntity) {
+                        XYItemEntity entity = (XYItemEntity) event.getEntity();
+                        if (entity.getSeriesIndex() == 0) {
+                            int item = entity.getItem();
+                            Platform.runLater(() -> controller.selectParetoSolution(item));
+                        }
+                    }
+                }
+                
+                @Override
+                public void chartMouseMoved(ChartMouseEvent event) {
+                }
+            });
+            node.setContent(chartPanel);
+        }
+    }
+    
     private void styleChart(JFreeChart chart) {
         chart.setBackgroundPaint(new Color(44, 62, 80));
         chart.getTitle().setPaint(Color.WHITE);
@@ -373,6 +499,15 @@ public class ChartsPanel {
             plot.getDomainAxis().setTickLabelPaint(Color.WHITE);
             plot.getRangeAxis().setLabelPaint(Color.WHITE);
             plot.getRangeAxis().setTickLabelPaint(Color.WHITE);
+        } else if (chart.getPlot() instanceof XYPlot) {
+            XYPlot plot = (XYPlot) chart.getPlot();
+            plot.setBackgroundPaint(new Color(52, 73, 94));
+            plot.setDomainGridlinePaint(new Color(127, 140, 141));
+            plot.setRangeGridlinePaint(new Color(127, 140, 141));
+            plot.getDomainAxis().setLabelPaint(Color.WHITE);
+            plot.getDomainAxis().setTickLabelPaint(Color.WHITE);
+            plot.getRangeAxis().setLabelPaint(Color.WHITE);
+            plot.getRangeAxis().setTickLabelPaint(Color.WHITE);
         }
     }
     
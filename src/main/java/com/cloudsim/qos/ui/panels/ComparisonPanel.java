@@ -1,7 +1,9 @@
 package com.cloudsim.qos.ui.panels;
 
+import com.cloudsim.qos.model.ParetoSolution;
 import com.cloudsim.qos.model.SchedulingResult;
 import com.cloudsim.qos.ui.SimulatorController;
+import javafx.application.Platform;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -25,6 +27,10 @@ public class ComparisonPanel {
     private ObservableList<ComparisonRow> comparisonData;
     private VBox detailsBox;
     private ComboBox<String> baseAlgorithmCombo;
+    private VBox paretoBox;
+    private TableView<ParetoRow> paretoTable;
+    private ObservableList<ParetoRow> paretoData;
+    private boolean updatingFront;
     
     private Map<String, Map<String, Double>> currentMetrics;
     private Map<String, List<SchedulingResult>> currentResults;
@@ -32,6 +38,7 @@ public class ComparisonPanel {
     public ComparisonPanel(SimulatorController controller) {
         this.controller = controller;
         this.comparisonData = FXCollections.observableArrayList();
+        this.paretoData = FXCollections.observableArrayList();
         createPanel();
     }
     
@@ -105,7 +112,7 @@ public class ComparisonPanel {
         
         comparisonTable = new TableView<>(comparisonData);
         comparisonTable.getStyleClass().add("comparison-table");
-        comparisonTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        comparisonTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
         VBox.setVgrow(comparisonTable, Priority.ALWAYS);
         
         // Columns
@@ -120,7 +127,7 @@ public class ComparisonPanel {
         TableColumn<ComparisonRow, String> compareCol = new TableColumn<>("Comparison");
         compareCol.setPrefWidth(400);
         
-        comparisonTable.getColumns().addAll(metricCol, baseCol, compareCol);
+        comparisonTable.getColumns().addAll(List.of(metricCol, baseCol, compareCol));
         
         // Legend
         HBox legend = new HBox(20);
@@ -160,6 +167,10 @@ public class ComparisonPanel {
         
         box.getChildren().add(sectionTitle);
         
+        // Pareto front of the last NSGA-II run, shown only when there is one
+        paretoBox = createParetoSection();
+        box.getChildren().add(paretoBox);
+        
         // Rankings section (will be populated dynamically)
         VBox rankingsBox = new VBox(10);
         rankingsBox.getStyleClass().add("rankings-section");
@@ -175,6 +186,75 @@ public class ComparisonPanel {
         return box;
     }
     
+    private VBox createParetoSection() {
+        VBox box = new VBox(8);
+        box.setPadding(new Insets(10));
+        box.setStyle("-fx-background-color: #34495e; -fx-background-radius: 8;");
+        box.setVisible(false);
+        box.setManaged(false);
+        
+        Label titleLabel = new Label("📉 NSGA-II Pareto Front");
+        titleLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #ecf0f1;");
+        
+        Label hint = new Label("Select a schedule to use it as the NSGA-II result");
+        hint.setStyle("-fx-text-fill: #bdc3c7;");
+        
+        paretoTable = new TableView<>(paretoData);
+        paretoTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        paretoTable.setPrefHeight(200);
+        
+        TableColumn<ParetoRow, Number> indexCol = new TableColumn<>("#");
+        indexCol.setCellValueFactory(data -> data.getValue().indexProperty());
+        indexCol.setPrefWidth(40);
+        
+        TableColumn<ParetoRow, String> makespanCol = new TableColumn<>("Makespan (s)");
+        makespanCol.setCellValueFactory(data -> data.getValue().makespanProperty());
+        
+        TableColumn<ParetoRow, String> costCol = new TableColumn<>("Total Cost ($)");
+        costCol.setCellValueFactory(data -> data.getValue().costProperty());
+        
+        TableColumn<ParetoRow, Number> missesCol = new TableColumn<>("Deadline Misses");
+        missesCol.setCellValueFactory(data -> data.getValue().deadlineMissesProperty());
+        
+        paretoTable.getColumns().addAll(List.of(indexCol, makespanCol, costCol, missesCol));
+        paretoTable.getSelectionModel().selectedIndexProperty().addListener((obs, oldIndex, newIndex) -> {
+            // Deferred, since the selection rebuilds this table
+            if (!updatingFront && newIndex.intValue() >= 0) {
+                int index = newIndex.intValue();
+                Platform.runLater(() -> controller.selectParetoSolution(index));
+            }
+        });
+        
+        box.getChildren().addAll(titleLabel, hint, paretoTable);
+        return box;
+    }
+    
+    /**
+     * Lists the Pareto front of the last NSGA-II run, with the selected
+     * schedule highlighted, or hides the list when there is no front.
+     */
+    public void updateParetoFront(List<ParetoSolution> front, int selected) {
+        updatingFront = true;
+        paretoData.clear();
+        for (int i = 0; i < front.size(); i++) {
+            ParetoSolution solution = front.get(i);
+            ParetoRow row = new ParetoRow();
+            row.setIndex(i + 1);
+            row.setMakespan(String.format("%.2f", solution.getMakespan()));
+            row.setCost(String.format("$%.2f", solution.getTotalCost()));
+            row.setDeadlineMisses(solution.getDeadlineMisses());
+            paretoData.add(row);
+        }
+        if (selected >= 0 && selected < front.size()) {
+            paretoTable.getSelectionModel().select(selected);
+            paretoTable.scrollTo(selected);
+        }
+        updatingFront = false;
+        
+        paretoBox.setVisible(!front.isEmpty());
+        paretoBox.setManaged(!front.isEmpty());
+    }
+    
     public void updateData(Map<String, List<SchedulingResult>> allResults,
                           Map<String, Map<String, Double>> allMetrics) {
         this.currentResults = allResults;
@@ -209,7 +289,8 @@ public class ComparisonPanel {
             {"qosSatisfactionRate", "QoS Satisfaction (%)", "higher"},
             {"deadlineMissRate", "Deadline Miss Rate (%)", "lower"},
             {"resourceUtilization", "Resource Utilization (%)", "higher"},
-            {"loadBalance", "Load Balance Score", "higher"}
+            {"loadBalance", "Load Balance (Jain Index)", "higher"},
+            {"loadImbalance", "Load Imbalance Degree", "lower"}
         };
         
         for (String[] def : metricDefs) {
@@ -440,4 +521,30 @@ public class ComparisonPanel {
         public void setComparison(String value) { comparison.set(value); }
         public StringProperty comparisonProperty() { return comparison; }
     }
+    
+    /**
+     * Inner class for Pareto front table rows
+     */
+    public static class ParetoRow {
+        private final IntegerProperty index = new SimpleIntegerProperty();
+        private final StringProperty makespan = new SimpleStringProperty();
+        private final StringProperty cost = new SimpleStringProperty();
+        private final IntegerProperty deadlineMisses = new SimpleIntegerProperty();
+        
+        public int getIndex() { return index.get(); }
+        public void setIndex(int value) { index.set(value); }
+        public IntegerProperty indexProperty() { return index; }
+        
+        public String getMakespan() { return makespan.get(); }
+        public void setMakespan(String value) { makespan.set(value); }
+        public StringProperty makespanProperty() { return makespan; }
+        
+        public String getCost() { return cost.get(); }
+        public void setCost(String value) { cost.set(value); }
+        public StringProperty costProperty() { return cost; }
+        
+        public int getDeadlineMisses() { return deadlineMisses.get(); }
+        public void setDeadlineMisses(int value) { deadlineMisses.set(value); }
+        public IntegerProperty deadlineMissesProperty() { return deadlineMisses; }
+    }
 }
@@ -223,7 +223,7 @@ public class ConfigurationPanel {
         
         Label defaultLabel = new Label("Default Algorithm:");
         defaultAlgorithmCombo = new ComboBox<>();
-        defaultAlgorithmCombo.getItems().addAll("QoS-Aware", "FCFS", "Random", "Min-Min");
+        defaultAlgorithmCombo.getItems().addAll("QoS-Aware", "FCFS", "Random", "Min-Min", "Max-Min", "Sufferage", "Genetic", "NSGA-II");
         defaultAlgorithmCombo.setValue("QoS-Aware");
         defaultAlgorithmCombo.setPrefWidth(150);
         
@@ -239,7 +239,11 @@ public class ConfigurationPanel {
             createAlgorithmDesc("QoS-Aware", "Optimizes based on weighted time/cost with constraint handling", "#27ae60"),
             createAlgorithmDesc("FCFS", "First Come First Served - Simple round-robin assignment", "#3498db"),
             createAlgorithmDesc("Random", "Random task-to-VM assignment for baseline comparison", "#e67e22"),
-            createAlgorithmDesc("Min-Min", "Assigns smallest tasks first to fastest VMs", "#9b59b6")
+            createAlgorithmDesc("Min-Min", "Assigns smallest tasks first to fastest VMs", "#9b59b6"),
+            createAlgorithmDesc("Max-Min", "Assigns largest tasks first to their fastest VMs", "#c0392b"),
+            createAlgorithmDesc("Sufferage", "Favors tasks that lose most if denied their best VM", "#16a085"),
+            createAlgorithmDesc("Genetic", "Evolves whole task-to-VM plans within a time budget", "#34495e"),
+            createAlgorithmDesc("NSGA-II", "Finds the makespan/cost/deadline-miss trade-off front in one run", "#8e44ad")
         );
         
         section.getChildren().addAll(title, grid, descriptions);
@@ -75,7 +75,7 @@ public class HistoryPanel {
         
         // Filter by algorithm
         ComboBox<String> algorithmFilter = new ComboBox<>();
-        algorithmFilter.getItems().addAll("All Algorithms", "QoS-Aware", "FCFS", "Random", "Min-Min");
+        algorithmFilter.getItems().addAll("All Algorithms", "QoS-Aware", "FCFS", "Random", "Min-Min", "Max-Min", "Sufferage", "Genetic", "NSGA-II");
         algorithmFilter.setValue("All Algorithms");
         algorithmFilter.setOnAction(e -> filterByAlgorithm(algorithmFilter.getValue()));
         
@@ -189,15 +189,16 @@ public class ReportsPanel {
         html.append("<div class='section'>");
         html.append("<h2>🔄 Algorithm Comparison</h2>");
         html.append("<table class='data-table'>");
-        html.append("<tr><th>Algorithm</th><th>Makespan (s)</th><th>Total Cost ($)</th><th>Avg Time (s)</th><th>QoS Rate (%)</th><th>Deadline Misses</th></tr>");
+        html.append("<tr><th>Algorithm</th><th>Makespan (s)</th><th>Total Cost ($)</th><th>Avg Time (s)</th><th>p99 Response (s)</th><th>QoS Rate (%)</th><th>Deadline Misses</th></tr>");
         
         for (Map.Entry<String, Map<String, Double>> entry : currentMetrics.entrySet()) {
             Map<String, Double> m = entry.getValue();
-            html.append(String.format("<tr><td><strong>%s</strong></td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.1f%%</td><td>%.0f</td></tr>",
+            html.append(String.format("<tr><td><strong>%s</strong></td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.1f%%</td><td>%.0f</td></tr>",
                 entry.getKey(),
                 m.getOrDefault("makespan", 0.0),
                 m.getOrDefault("totalCost", 0.0),
                 m.getOrDefault("avgExecutionTime", 0.0),
+                m.getOrDefault("p99ResponseTime", 0.0),
                 m.getOrDefault("qosSatisfactionRate", 0.0),
                 m.getOrDefault("deadlineMissRate", 0.0) * currentTasks.size() / 100
             ));
@@ -255,8 +256,22 @@ public class ReportsPanel {
                 metrics.getOrDefault("totalCost", 0.0)));
             html.append(String.format("<div class='metric'><span class='metric-value'>%.1f%%</span><span class='metric-label'>QoS Rate</span></div>",
                 metrics.getOrDefault("qosSatisfactionRate", 0.0)));
+            html.append(String.format("<div class='metric'><span class='metric-value'>%.2f s</span><span class='metric-label'>p99 Response</span></div>",
+                metrics.getOrDefault("p99ResponseTime", 0.0)));
             html.append("</div>");
             
+            // Latency percentiles
+            html.append("<table class='data-table'>");
+            html.append("<tr><th>Percentile</th><th>Response Time (s)</th><th>Waiting Time (s)</th></tr>");
+            String[][] percentiles = {{"p50", "p50"}, {"p90", "p90"}, {"p99", "p99"}, {"p99.9", "p999"}};
+            for (String[] percentile : percentiles) {
+                html.append(String.format("<tr><td>%s</td><td>%.4f</td><td>%.4f</td></tr>",
+                    percentile[0],
+                    metrics.getOrDefault(percentile[1] + "ResponseTime", 0.0),
+                    metrics.getOrDefault(percentile[1] + "WaitingTime", 0.0)));
+            }
+            html.append("</table>");
+            
             // Results table
             html.append("<table class='data-table'>");
             html.append("<tr><th>Task</th><th>VM</th><th>Exec Time</th><th>Cost</th><th>Status</th></tr>");
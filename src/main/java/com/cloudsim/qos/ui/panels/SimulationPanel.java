@@ -161,7 +161,11 @@ public class SimulationPanel {
             {"QoS-Aware", "Weighted multi-objective optimization", "#27ae60"},
             {"FCFS", "First Come First Served baseline", "#3498db"},
             {"Random", "Random assignment baseline", "#e67e22"},
-            {"Min-Min", "Min-Min heuristic algorithm", "#9b59b6"}
+            {"Min-Min", "Min-Min heuristic algorithm", "#9b59b6"},
+            {"Max-Min", "Max-Min heuristic algorithm", "#c0392b"},
+            {"Sufferage", "Sufferage heuristic algorithm", "#16a085"},
+            {"Genetic", "Genetic algorithm over whole plans", "#34495e"},
+            {"NSGA-II", "Pareto front of time/cost trade-offs", "#8e44ad"}
         };
         
         for (String[] algo : algorithms) {
@@ -386,6 +390,7 @@ public class SimulationPanel {
     }
     
     private void stopSimulation() {
+        controller.stopSimulation();
         isRunning = false;
         runButton.setDisable(false);
         stopButton.setDisable(true);
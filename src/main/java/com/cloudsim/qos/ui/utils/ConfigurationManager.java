@@ -1,6 +1,7 @@
 package com.cloudsim.qos.ui.utils;
 
 import com.cloudsim.qos.config.SimulationConfig;
+import com.cloudsim.qos.config.WorkloadConverter;
 import com.cloudsim.qos.model.CloudTask;
 import com.cloudsim.qos.model.VirtualMachine;
 import com.google.gson.Gson;
@@ -113,27 +114,11 @@ public class ConfigurationManager {
         
         File file = fileChooser.showOpenDialog(owner);
         if (file != null) {
-            List<CloudTask> tasks = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line = reader.readLine(); // Skip header
-                
-                while ((line = reader.readLine()) != null) {
-                    String[] parts = line.split(",");
-                    if (parts.length >= 5) {
-                        CloudTask task = new CloudTask(
-                            Integer.parseInt(parts[0].trim()),   // taskId
-                            Long.parseLong(parts[1].trim()),     // taskLength
-                            Double.parseDouble(parts[2].trim()), // deadline
-                            Double.parseDouble(parts[3].trim()), // budget
-                            Integer.parseInt(parts[4].trim())    // priority
-                        );
-                        tasks.add(task);
-                    }
-                }
-            } catch (IOException | NumberFormatException e) {
+            try {
+                return WorkloadConverter.readTasksFromCSV(file.toPath());
+            } catch (IOException e) {
                 throw new RuntimeException("Failed to import tasks: " + e.getMessage());
             }
-            return tasks;
         }
         return null;
     }
@@ -186,30 +171,11 @@ public class ConfigurationManager {
         
         File file = fileChooser.showOpenDialog(owner);
         if (file != null) {
-            List<VirtualMachine> vms = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line = reader.readLine(); // Skip header
-                
-                while ((line = reader.readLine()) != null) {
-                    String[] parts = line.split(",");
-                    if (parts.length >= 8) {
-                        VirtualMachine vm = new VirtualMachine(
-                            Integer.parseInt(parts[0].trim()),     // vmId
-                            Double.parseDouble(parts[1].trim()),   // mips
-                            Double.parseDouble(parts[2].trim()),   // costPerSecond
-                            Double.parseDouble(parts[3].trim()),   // networkLatency
-                            Integer.parseInt(parts[4].trim()),     // pes
-                            Long.parseLong(parts[5].trim()),       // ram
-                            Long.parseLong(parts[6].trim()),       // bandwidth
-                            Long.parseLong(parts[7].trim())        // storage
-                        );
-                        vms.add(vm);
-                    }
-                }
-            } catch (IOException | NumberFormatException e) {
+            try {
+                return WorkloadConverter.readVMsFromCSV(file.toPath());
+            } catch (IOException e) {
                 throw new RuntimeException("Failed to import VMs: " + e.getMessage());
             }
-            return vms;
         }
         return null;
     }
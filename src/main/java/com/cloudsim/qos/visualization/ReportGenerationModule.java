@@ -128,12 +128,19 @@ public class ReportGenerationModule {
             reportContent.append("  Total Execution Time: ").append(String.format("%.4f", m.totalExecutionTime)).append(" s\n");
             reportContent.append("  Average Execution Time: ").append(String.format("%.4f", m.averageExecutionTime)).append(" s\n");
             reportContent.append("  Makespan: ").append(String.format("%.4f", m.makespan)).append(" s\n");
+            reportContent.append("  Response Time p50/p90/p99/p99.9: ").append(String.format("%.4f / %.4f / %.4f / %.4f",
+                    m.p50ResponseTime, m.p90ResponseTime, m.p99ResponseTime, m.p999ResponseTime)).append(" s\n");
+            reportContent.append("  Waiting Time p50/p90/p99/p99.9: ").append(String.format("%.4f / %.4f / %.4f / %.4f",
+                    m.p50WaitingTime, m.p90WaitingTime, m.p99WaitingTime, m.p999WaitingTime)).append(" s\n");
             reportContent.append("  Total Cost: $").append(String.format("%.4f", m.totalCost)).append("\n");
             reportContent.append("  Average Cost: $").append(String.format("%.4f", m.averageCost)).append("\n");
             reportContent.append("  Deadlines Met: ").append(m.deadlinesMet).append("/").append(m.totalTasks).append("\n");
             reportContent.append("  Budgets Met: ").append(m.budgetsMet).append("/").append(m.totalTasks).append("\n");
             reportContent.append("  QoS Satisfied: ").append(m.qosSatisfied).append("/").append(m.totalTasks).append("\n");
-            reportContent.append("  Throughput: ").append(String.format("%.4f", m.throughput)).append(" tasks/s\n\n");
+            reportContent.append("  Throughput: ").append(String.format("%.4f", m.throughput)).append(" tasks/s\n");
+            reportContent.append("  Resource Utilization: ").append(String.format("%.2f", m.resourceUtilization)).append("%\n");
+            reportContent.append("  Load Imbalance: ").append(String.format("%.4f", m.loadImbalance)).append("\n");
+            reportContent.append("  Jain Fairness Index: ").append(String.format("%.4f", m.jainFairness)).append("\n\n");
         }
     }
     
@@ -338,16 +345,23 @@ public class ReportGenerationModule {
             // Header
             writer.println("Scheduler,TotalTasks,TotalTime,AvgTime,StdDevTime,Makespan," +
                     "TotalCost,AvgCost,StdDevCost,DeadlinesMet,DeadlineMissRate," +
-                    "BudgetsMet,BudgetViolationRate,QoSSatisfied,QoSSatisfactionRate,Throughput");
+                    "BudgetsMet,BudgetViolationRate,QoSSatisfied,QoSSatisfactionRate,Throughput," +
+                    "P50ResponseTime,P90ResponseTime,P99ResponseTime,P999ResponseTime," +
+                    "P50WaitingTime,P90WaitingTime,P99WaitingTime,P999WaitingTime," +
+                    "ResourceUtilization,LoadImbalance,JainFairness");
             
             // Data
             for (Map.Entry<String, PerformanceMetrics> entry : metricsMap.entrySet()) {
                 PerformanceMetrics m = entry.getValue();
-                writer.printf("%s,%d,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%d,%.4f,%d,%.4f,%d,%.4f,%.6f%n",
+                writer.printf("%s,%d,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%d,%.4f,%d,%.4f,%d,%.4f,%.6f," +
+                        "%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.4f,%.6f,%.6f%n",
                         entry.getKey(), m.totalTasks, m.totalExecutionTime, m.averageExecutionTime,
                         m.stdDevTime, m.makespan, m.totalCost, m.averageCost, m.stdDevCost,
                         m.deadlinesMet, m.deadlineMissRate, m.budgetsMet, m.budgetViolationRate,
-                        m.qosSatisfied, m.qosSatisfactionRate, m.throughput);
+                        m.qosSatisfied, m.qosSatisfactionRate, m.throughput,
+                        m.p50ResponseTime, m.p90ResponseTime, m.p99ResponseTime, m.p999ResponseTime,
+                        m.p50WaitingTime, m.p90WaitingTime, m.p99WaitingTime, m.p999WaitingTime,
+                        m.resourceUtilization, m.loadImbalance, m.jainFairness);
             }
         }
         System.out.println("CSV Report saved: " + filename);
@@ -308,6 +308,8 @@ public class ResultVisualizationModule {
             if (name.contains("FCFS")) return "FCFS";
             if (name.contains("Random")) return "Random";
             if (name.contains("Min-Min")) return "Min-Min";
+            if (name.contains("Genetic")) return "Genetic";
+            if (name.contains("NSGA")) return "NSGA-II";
             return name.substring(0, 17) + "...";
         }
         return name;